@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.management.rest.filter;
+
+import io.gravitee.rest.api.service.PermissionService;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Scopes the permission context to the request, so that the memberships of the user are loaded once however many
+ * permissions are checked by the resource.
+ *
+ * @author GraviteeSource Team
+ */
+@Provider
+@Priority(50)
+public class PermissionContextFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Inject
+    private PermissionService permissionService;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        permissionService.initContext();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        permissionService.clearContext();
+    }
+}
@@ -20,7 +20,6 @@ import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.rest.api.model.ApplicationEntity;
 import io.gravitee.rest.api.model.GroupEntity;
-import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.management.rest.resource.AbstractResource;
@@ -45,6 +44,7 @@ import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -57,6 +57,8 @@ public class PermissionsFilter implements ContainerRequestFilter {
 
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private static final String MEMBER_PERMISSIONS_PROPERTY = "gravitee.permissions.";
+
     @Context
     protected ResourceInfo resourceInfo;
 
@@ -96,44 +98,34 @@ public class PermissionsFilter implements ContainerRequestFilter {
             if (principal != null) {
                 String username = principal.getName();
                 for (Permission permission : permissions.value()) {
-                    RoleEntity role;
                     Map<String, char[]> memberPermissions;
                     switch (permission.value().getScope()) {
                         case MANAGEMENT:
-                            role = membershipService.getRole(MembershipReferenceType.MANAGEMENT, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.MANAGEMENT);
-                            if (roleService.hasPermission(role.getPermissions(), permission.value().getPermission(), permission.acls())) {
-                                return;
-                            }
+                            memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                                    membershipService.getRole(MembershipReferenceType.MANAGEMENT, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.MANAGEMENT).getPermissions());
                             break;
                         case PORTAL:
-                            role = membershipService.getRole(MembershipReferenceType.PORTAL, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.PORTAL);
-                            if (roleService.hasPermission(role.getPermissions(), permission.value().getPermission(), permission.acls())) {
-                                return;
-                            }
+                            memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                                    membershipService.getRole(MembershipReferenceType.PORTAL, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.PORTAL).getPermissions());
                             break;
                         case APPLICATION:
-                            ApplicationEntity application = getApplication(requestContext);
-                            memberPermissions = membershipService.getMemberPermissions(application, username);
-                            if (roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls())) {
-                                return;
-                            }
+                            memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                                    membershipService.getMemberPermissions(getApplication(requestContext), username));
                             break;
                         case API:
-                            ApiEntity api = getApi(requestContext);
-                            memberPermissions = membershipService.getMemberPermissions(api, username);
-                            if (roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls())) {
-                                return;
-                            }
+                            memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                                    membershipService.getMemberPermissions(getApi(requestContext), username));
                             break;
                         case GROUP:
-                            GroupEntity group = getGroup(requestContext);
-                            memberPermissions = membershipService.getMemberPermissions(group, username);
-                            if (roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls())) {
-                                return;
-                            }
+                            memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                                    membershipService.getMemberPermissions(getGroup(requestContext), username));
                             break;
                         default:
                             sendSecurityError();
+                            return;
+                    }
+                    if (roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls())) {
+                        return;
                     }
                 }
             }
@@ -141,12 +133,35 @@ public class PermissionsFilter implements ContainerRequestFilter {
         }
     }
 
+    /**
+     * The permissions of the user are resolved once per scope for the request, whatever the number of required
+     * permissions of this scope.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, char[]> getMemberPermissions(ContainerRequestContext requestContext, Permission permission,
+                                                     Supplier<Map<String, char[]>> loader) {
+        final String property = MEMBER_PERMISSIONS_PROPERTY + permission.value().getScope().name();
+        Map<String, char[]> memberPermissions = (Map<String, char[]>) requestContext.getProperty(property);
+        if (memberPermissions == null) {
+            memberPermissions = loader.get();
+            requestContext.setProperty(property, memberPermissions);
+        }
+        return memberPermissions;
+    }
+
+    /**
+     * Only the groups of the API are read: an API which does not exist has no member, so the request is denied
+     * (403) without telling whether it exists.
+     */
     private ApiEntity getApi(ContainerRequestContext requestContext) {
         String apiId = getId("api", requestContext);
         if (apiId == null) {
             return null;
         }
-        return apiService.findById(apiId);
+        final ApiEntity api = new ApiEntity();
+        api.setId(apiId);
+        api.setGroups(apiService.findGroupsById(apiId));
+        return api;
     }
 
     private GroupEntity getGroup(ContainerRequestContext requestContext) {
@@ -162,7 +177,10 @@ public class PermissionsFilter implements ContainerRequestFilter {
         if (applicationId == null) {
             return null;
         }
-        return applicationService.findById(applicationId);
+        final ApplicationEntity application = new ApplicationEntity();
+        application.setId(applicationId);
+        application.setGroups(applicationService.findGroupsById(applicationId));
+        return application;
     }
 
     private String getId(String key, ContainerRequestContext requestContext) {
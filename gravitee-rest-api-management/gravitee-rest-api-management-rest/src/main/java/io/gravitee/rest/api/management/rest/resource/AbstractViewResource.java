@@ -33,9 +33,9 @@ public abstract class AbstractViewResource extends AbstractResource {
     protected ViewEntity setPicture(ViewEntity viewEntity, boolean fromRoot) {
         final UriBuilder ub = uriInfo.getAbsolutePathBuilder();
         final UriBuilder uriBuilder = ub.path(fromRoot ? viewEntity.getId() + "/picture" : "picture");
-        if (viewEntity.getPicture() != null) {
+        if (viewEntity.getPicture() != null && viewEntity.getUpdatedAt() != null) {
             // force browser to get if updated
-            uriBuilder.queryParam("hash", viewEntity.getPicture().hashCode());
+            uriBuilder.queryParam("hash", viewEntity.getUpdatedAt().getTime());
         }
         viewEntity.setPictureUrl(uriBuilder.build().toString());
         viewEntity.setPicture(null);
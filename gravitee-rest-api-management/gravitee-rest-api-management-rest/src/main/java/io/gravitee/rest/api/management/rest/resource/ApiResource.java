@@ -116,9 +116,9 @@ public class ApiResource extends AbstractResource {
     private void setPicture(final ApiEntity apiEntity) {
         final UriBuilder ub = uriInfo.getAbsolutePathBuilder();
         final UriBuilder uriBuilder = ub.path("picture");
-        if (apiEntity.getPicture() != null) {
+        if (apiEntity.getPicture() != null && apiEntity.getUpdatedAt() != null) {
             // force browser to get if updated
-            uriBuilder.queryParam("hash", apiEntity.getPicture().hashCode());
+            uriBuilder.queryParam("hash", apiEntity.getUpdatedAt().getTime());
         }
         apiEntity.setPictureUrl(uriBuilder.build().toString());
         apiEntity.setPicture(null);
@@ -134,9 +134,9 @@ public class ApiResource extends AbstractResource {
     public Response picture(
             @Context Request request,
             @PathParam("api") String api) throws ApiNotFoundException {
-        ApiEntity apiEntity = apiService.findById(api);
-        if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
-                || hasPermission(RolePermission.API_DEFINITION, api, RolePermissionAction.READ)) {
+        // The API is only loaded when its visibility has to be checked
+        if (hasPermission(RolePermission.API_DEFINITION, api, RolePermissionAction.READ)
+                || Visibility.PUBLIC.equals(apiService.findById(api).getVisibility())) {
 
             CacheControl cc = new CacheControl();
             cc.setNoTransform(true);
@@ -146,7 +146,7 @@ public class ApiResource extends AbstractResource {
 
             InlinePictureEntity image = apiService.getPicture(api);
 
-            EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+            EntityTag etag = new EntityTag(image.getHash());
             Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
             if (builder != null) {
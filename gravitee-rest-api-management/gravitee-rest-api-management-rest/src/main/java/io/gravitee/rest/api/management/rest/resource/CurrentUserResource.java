@@ -170,7 +170,7 @@ public class CurrentUserResource extends AbstractResource {
 
         InlinePictureEntity image = (InlinePictureEntity) picture;
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
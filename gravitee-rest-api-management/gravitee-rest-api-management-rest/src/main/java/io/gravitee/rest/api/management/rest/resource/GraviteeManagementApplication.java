@@ -31,6 +31,7 @@ import com.fasterxml.jackson.databind.JavaType;
 
 import io.gravitee.common.util.Version;
 import io.gravitee.rest.api.management.rest.filter.GraviteeContextFilter;
+import io.gravitee.rest.api.management.rest.filter.PermissionContextFilter;
 import io.gravitee.rest.api.management.rest.filter.PermissionsFilter;
 import io.gravitee.rest.api.management.rest.filter.SecurityContextFilter;
 import io.gravitee.rest.api.management.rest.mapper.ObjectMapperResolver;
@@ -112,6 +113,7 @@ public class GraviteeManagementApplication extends ResourceConfig {
         register(BadRequestExceptionMapper.class);
 
         register(SecurityContextFilter.class);
+        register(PermissionContextFilter.class);
         register(PermissionsFilter.class);
         register(GraviteeContextFilter.class);
         register(UriBuilderRequestFilter.class);
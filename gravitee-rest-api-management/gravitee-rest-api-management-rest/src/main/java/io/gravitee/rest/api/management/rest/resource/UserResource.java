@@ -160,7 +160,7 @@ public class UserResource extends AbstractResource {
 
         InlinePictureEntity image = (InlinePictureEntity) picture;
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
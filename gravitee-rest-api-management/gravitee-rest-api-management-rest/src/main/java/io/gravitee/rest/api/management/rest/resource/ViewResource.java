@@ -97,7 +97,7 @@ public class ViewResource extends AbstractViewResource {
 
         InlinePictureEntity image = viewService.getPicture(viewId);
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -114,9 +114,9 @@ public class PortalApisResource extends AbstractResource {
 
         final UriBuilder ub = uriInfo.getBaseUriBuilder();
         final UriBuilder uriBuilder = ub.path("apis").path(api.getId()).path("picture");
-        if (api.getPicture() != null) {
+        if (api.getPicture() != null && api.getUpdatedAt() != null) {
             // force browser to get if updated
-            uriBuilder.queryParam("hash", api.getPicture().hashCode());
+            uriBuilder.queryParam("hash", api.getUpdatedAt().getTime());
         }
         apiItem.setPictureUrl(uriBuilder.build().toString());
         apiItem.setViews(api.getViews());
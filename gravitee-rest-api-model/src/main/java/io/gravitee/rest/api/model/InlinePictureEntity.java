@@ -15,6 +15,11 @@
  */
 package io.gravitee.rest.api.model;
 
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -23,6 +28,7 @@ public class InlinePictureEntity implements PictureEntity {
 
     private byte [] content;
     private String type;
+    private volatile String hash;
 
     public byte[] getContent() {
         return content;
@@ -30,6 +36,7 @@ public class InlinePictureEntity implements PictureEntity {
 
     public void setContent(byte[] content) {
         this.content = content;
+        this.hash = null;
     }
 
     public String getType() {
@@ -39,4 +46,19 @@ public class InlinePictureEntity implements PictureEntity {
     public void setType(String type) {
         this.type = type;
     }
+
+    /**
+     * @return the MD5 of the content, hex encoded. It is computed once, so that a cached picture can be served with
+     * its <code>ETag</code> without hashing the content again.
+     */
+    public String getHash() {
+        if (hash == null && content != null) {
+            try {
+                hash = String.format("%032x", new BigInteger(1, MessageDigest.getInstance("MD5").digest(content)));
+            } catch (NoSuchAlgorithmException nsae) {
+                hash = Integer.toHexString(Arrays.hashCode(content));
+            }
+        }
+        return hash;
+    }
 }
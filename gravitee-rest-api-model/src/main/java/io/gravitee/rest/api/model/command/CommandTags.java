@@ -21,5 +21,6 @@ package io.gravitee.rest.api.model.command;
  */
 
 public enum CommandTags {
-    DATA_TO_INDEX
+    DATA_TO_INDEX,
+    CACHE_INVALIDATION
 }
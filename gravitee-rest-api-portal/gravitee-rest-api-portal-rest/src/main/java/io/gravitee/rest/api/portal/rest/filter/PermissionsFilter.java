@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -36,7 +37,6 @@ import io.gravitee.repository.management.model.MembershipDefaultReferenceId;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.rest.api.model.ApplicationEntity;
-import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.resource.AbstractResource;
 import io.gravitee.rest.api.portal.rest.security.Permission;
@@ -60,6 +60,8 @@ public class PermissionsFilter implements ContainerRequestFilter {
 
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private static final String MEMBER_PERMISSIONS_PROPERTY = "gravitee.permissions.";
+
     @Context
     protected ResourceInfo resourceInfo;
 
@@ -109,35 +111,60 @@ public class PermissionsFilter implements ContainerRequestFilter {
     }
 
     protected boolean hasPermission(ContainerRequestContext requestContext, String username, Permission permission) {
-        RoleEntity role;
         Map<String, char[]> memberPermissions;
         switch (permission.value().getScope()) {
             case MANAGEMENT:
-                role = membershipService.getRole(MembershipReferenceType.MANAGEMENT, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.MANAGEMENT);
-                return roleService.hasPermission(role.getPermissions(), permission.value().getPermission(), permission.acls());
+                memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                        membershipService.getRole(MembershipReferenceType.MANAGEMENT, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.MANAGEMENT).getPermissions());
+                break;
             case PORTAL:
-                role = membershipService.getRole(MembershipReferenceType.PORTAL, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.PORTAL);
-                return roleService.hasPermission(role.getPermissions(), permission.value().getPermission(), permission.acls());
+                memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                        membershipService.getRole(MembershipReferenceType.PORTAL, MembershipDefaultReferenceId.DEFAULT.name(), username, RoleScope.PORTAL).getPermissions());
+                break;
             case APPLICATION:
-                ApplicationEntity application = getApplication(requestContext);
-                memberPermissions = membershipService.getMemberPermissions(application, username);
-                return roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls());
+                memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                        membershipService.getMemberPermissions(getApplication(requestContext), username));
+                break;
             case API:
-                ApiEntity api = getApi(requestContext);
-                memberPermissions = membershipService.getMemberPermissions(api, username);
-                return roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls());
+                memberPermissions = getMemberPermissions(requestContext, permission, () ->
+                        membershipService.getMemberPermissions(getApi(requestContext), username));
+                break;
             default:
                 sendSecurityError();
+                return false;
+        }
+        return roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls());
+    }
+
+    /**
+     * The permissions of the user are resolved once per scope for the request, whatever the number of required
+     * permissions of this scope.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, char[]> getMemberPermissions(ContainerRequestContext requestContext, Permission permission,
+                                                     Supplier<Map<String, char[]>> loader) {
+        final String property = MEMBER_PERMISSIONS_PROPERTY + permission.value().getScope().name();
+        Map<String, char[]> memberPermissions = (Map<String, char[]>) requestContext.getProperty(property);
+        if (memberPermissions == null) {
+            memberPermissions = loader.get();
+            requestContext.setProperty(property, memberPermissions);
         }
-        return false;
+        return memberPermissions;
     }
 
+    /**
+     * Only the groups of the API are read: an API which does not exist has no member, so the request is denied
+     * (403) without telling whether it exists.
+     */
     private ApiEntity getApi(ContainerRequestContext requestContext) {
         String apiId = getId("apiId", requestContext);
         if (apiId == null) {
             return null;
         }
-        return apiService.findById(apiId);
+        final ApiEntity api = new ApiEntity();
+        api.setId(apiId);
+        api.setGroups(apiService.findGroupsById(apiId));
+        return api;
     }
 
     private ApplicationEntity getApplication(ContainerRequestContext requestContext) {
@@ -145,7 +172,10 @@ public class PermissionsFilter implements ContainerRequestFilter {
         if (applicationId == null) {
             return null;
         }
-        return applicationService.findById(applicationId);
+        final ApplicationEntity application = new ApplicationEntity();
+        application.setId(applicationId);
+        application.setGroups(applicationService.findGroupsById(applicationId));
+        return application;
     }
 
     private String getId(String key, ContainerRequestContext requestContext) {
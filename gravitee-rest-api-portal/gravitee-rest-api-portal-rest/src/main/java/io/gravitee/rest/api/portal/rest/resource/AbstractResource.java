@@ -350,7 +350,7 @@ public abstract class AbstractResource {
         cc.setNoCache(false);
         cc.setMaxAge(86400);
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
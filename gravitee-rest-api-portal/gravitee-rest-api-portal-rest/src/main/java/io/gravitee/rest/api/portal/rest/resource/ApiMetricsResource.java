@@ -17,11 +17,9 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
 import io.gravitee.repository.healthcheck.query.availability.AvailabilityQuery.Field;
-import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.analytics.query.StatsAnalytics;
 import io.gravitee.rest.api.model.analytics.query.StatsQuery;
 import io.gravitee.rest.api.model.api.ApiEntity;
-import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.portal.rest.model.ApiMetrics;
 import io.gravitee.rest.api.service.AnalyticsService;
 import io.gravitee.rest.api.service.HealthCheckService;
@@ -41,8 +39,8 @@ import java.math.RoundingMode;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * @author Florent CHAMFROY (florent.chamfroy at graviteesource.com)
@@ -111,15 +109,10 @@ public class ApiMetricsResource extends AbstractResource {
     }
 
     private Number getApiNbSubscribers(String apiId) {
-        // find all subscribed apis
-        SubscriptionQuery subscriptionQuery = new SubscriptionQuery();
-        subscriptionQuery.setApi(apiId);
-
-        // group by apis
-        Collection<SubscriptionEntity> searchResult = subscriptionService.search(subscriptionQuery);
-        if (searchResult != null) {
-            return searchResult.stream()
-                    .collect(Collectors.groupingBy(SubscriptionEntity::getApi, Collectors.counting())).get(apiId);
+        // count subscriptions of the api
+        Map<String, Long> subscriptionsCount = subscriptionService.countByApis(Collections.singletonList(apiId));
+        if (subscriptionsCount != null) {
+            return subscriptionsCount.get(apiId);
         }
         return null;
     }
@@ -21,6 +21,7 @@ import io.gravitee.rest.api.model.RatingSummaryEntity;
 import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.TopApiEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.api.ApiQuery;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
@@ -30,6 +31,7 @@ import io.gravitee.rest.api.portal.rest.model.CategoryApiQuery;
 import io.gravitee.rest.api.portal.rest.resource.param.ApisParam;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.utils.PortalApiLinkHelper;
+import io.gravitee.rest.api.service.ApiVisibilityService;
 import io.gravitee.rest.api.service.ApplicationService;
 import io.gravitee.rest.api.service.RatingService;
 import io.gravitee.rest.api.service.SubscriptionService;
@@ -70,6 +72,9 @@ public class ApisResource extends AbstractResource {
     @Inject
     private TopApiService topApiService;
 
+    @Inject
+    private ApiVisibilityService apiVisibilityService;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Response getApis(@BeanParam PaginationParam paginationParam, @BeanParam ApisParam apisParam) {
@@ -91,14 +96,13 @@ public class ApisResource extends AbstractResource {
     @Produces(MediaType.APPLICATION_JSON)
     public Response searchApis(@NotNull(message = "Input must not be null.") @QueryParam("q") String query,
             @BeanParam PaginationParam paginationParam) {
-        Collection<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull(),
-                createQueryFromParam(null));
-
         Map<String, Object> filters = new HashMap<>();
-        filters.put("api", apis.stream().map(ApiEntity::getId).collect(Collectors.toSet()));
+        filters.put("api", apiVisibilityService.findVisibleApiIds(getAuthenticatedUserOrNull()));
 
         try {
-            List<Api> apisList = apiService.search(query, filters).stream().map(apiMapper::convert)
+            List<Api> apisList = apiService.search(query, filters).stream()
+                    .filter(api -> ApiLifecycleState.PUBLISHED.equals(api.getLifecycleState()))
+                    .map(apiMapper::convert)
                     .map(this::addApiLinks).collect(Collectors.toList());
             return createListResponse(apisList, paginationParam);
         } catch (TechnicalException e) {
@@ -172,13 +176,9 @@ public class ApisResource extends AbstractResource {
     }
 
     protected FilteredApi getApisOrderByNumberOfSubscriptions(Collection<ApiEntity> apis, boolean excluded) {
-        //find all subscribed apis
-        SubscriptionQuery subscriptionQuery = new SubscriptionQuery();
-        subscriptionQuery.setApis(apis.stream().map(ApiEntity::getId).collect(Collectors.toList()));
-
-        // group by apis
-        Map<String, Long> subscribedApiWithCount = subscriptionService.search(subscriptionQuery).stream()
-                .collect(Collectors.groupingBy(SubscriptionEntity::getApi, Collectors.counting()));
+        //count subscriptions of each api
+        Map<String, Long> subscribedApiWithCount = subscriptionService.countByApis(
+                apis.stream().map(ApiEntity::getId).collect(Collectors.toList()));
 
         // link an api with its nb of subscritions
         Map<ApiEntity, Long> apisWithCount = new HashMap<>();
@@ -207,10 +207,10 @@ public class ApisResource extends AbstractResource {
     protected FilteredApi getRatedApis(Collection<ApiEntity> apis, boolean excluded) {
         //keep apis with ratings
         Map<ApiEntity, RatingSummaryEntity> ratings = new HashMap<>();
-        // APIPortal: should create a specific service to retrieve all the information
-        // in one call to the repository
+        Map<String, RatingSummaryEntity> summaries = ratingService.findSummariesByApis(
+                apis.stream().map(ApiEntity::getId).collect(Collectors.toList()));
         apis.forEach(api -> {
-            RatingSummaryEntity apiRatingSummary = ratingService.findSummaryByApi(api.getId());
+            RatingSummaryEntity apiRatingSummary = summaries.get(api.getId());
             if (apiRatingSummary != null && apiRatingSummary.getNumberOfRatings() > 0) {
                 ratings.put(api, apiRatingSummary);
             }
@@ -147,8 +147,6 @@ public class ApplicationResource extends AbstractResource {
         @Permission(value = RolePermission.APPLICATION_DEFINITION, acls = RolePermissionAction.READ)
     })
     public Response getPictureByApplicationId(@Context Request request, @PathParam("applicationId") String applicationId) {
-        applicationService.findById(applicationId);
-
         InlinePictureEntity image = applicationService.getPicture(applicationId);
         
         return createPictureReponse(request, image);
@@ -23,6 +23,7 @@ import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.ServerProperties;
 
 import io.gravitee.rest.api.portal.rest.filter.GraviteeContextFilter;
+import io.gravitee.rest.api.portal.rest.filter.PermissionContextFilter;
 import io.gravitee.rest.api.portal.rest.filter.PermissionsFilter;
 import io.gravitee.rest.api.portal.rest.filter.SecurityContextFilter;
 import io.gravitee.rest.api.portal.rest.mapper.ObjectMapperResolver;
@@ -58,6 +59,7 @@ public class GraviteePortalApplication extends ResourceConfig {
         register(QueryParamExceptionMapper.class);
 
         register(SecurityContextFilter.class);
+        register(PermissionContextFilter.class);
         register(GraviteeContextFilter.class);
         register(PermissionsFilter.class);
         register(UriBuilderRequestFilter.class);
@@ -101,7 +101,7 @@ public class PermissionFilterTest {
         ApiEntity api = new ApiEntity();
         api.setId(API_ID);
         Principal user = () -> USERNAME;
-        when(apiService.findById(api.getId())).thenReturn(api);
+        when(apiService.findGroupsById(api.getId())).thenReturn(Collections.emptySet());
         when(securityContext.getUserPrincipal()).thenReturn(user);
         Permission perm = mock(Permission.class);
         when(perm.value()).thenReturn(RolePermission.API_ANALYTICS);
@@ -123,8 +123,8 @@ public class PermissionFilterTest {
         try {
             permissionFilter.filter(permissions, containerRequestContext);
         } catch(ForbiddenAccessException e) {
-            verify(apiService, times(1)).findById(api.getId());
-            verify(applicationService, never()).findById(any());
+            verify(apiService, times(1)).findGroupsById(api.getId());
+            verify(applicationService, never()).findGroupsById(any());
             verify(roleService, times(1)).hasPermission(any(), any(), any());
             verify(membershipService, times(1)).getMemberPermissions(api, USERNAME);
             verify(membershipService, never()).getRole(any(), any(), any(), any());
@@ -140,8 +140,9 @@ public class PermissionFilterTest {
         when(roleService.hasPermission(any(), any(), any())).thenReturn(true);
 
         permissionFilter.filter(permissions, containerRequestContext);
-        verify(apiService, times(1)).findById(api.getId());
-        verify(applicationService, never()).findById(any());
+        verify(apiService, times(1)).findGroupsById(api.getId());
+        verify(apiService, never()).findById(any());
+        verify(applicationService, never()).findGroupsById(any());
         verify(roleService, times(1)).hasPermission(any(), any(), any());
         verify(membershipService, times(1)).getMemberPermissions(api, USERNAME);
         verify(membershipService, never()).getRole(any(), any(), any(), any());
@@ -154,7 +155,7 @@ public class PermissionFilterTest {
         ApplicationEntity application = new ApplicationEntity();
         application.setId(APPLICATION_ID);
         Principal user = () -> USERNAME;
-        when(applicationService.findById(application.getId())).thenReturn(application);
+        when(applicationService.findGroupsById(application.getId())).thenReturn(Collections.emptySet());
         when(securityContext.getUserPrincipal()).thenReturn(user);
         Permission perm = mock(Permission.class);
         when(perm.value()).thenReturn(RolePermission.APPLICATION_ANALYTICS);
@@ -176,8 +177,8 @@ public class PermissionFilterTest {
         try {
             permissionFilter.filter(permissions, containerRequestContext);
         } catch(ForbiddenAccessException e) {
-            verify(applicationService, times(1)).findById(application.getId());
-            verify(apiService, never()).findById(any());
+            verify(applicationService, times(1)).findGroupsById(application.getId());
+            verify(apiService, never()).findGroupsById(any());
             verify(roleService, times(1)).hasPermission(any(), any(), any());
             verify(membershipService, times(1)).getMemberPermissions(application, USERNAME);
             verify(membershipService, never()).getRole(any(), any(), any(), any());
@@ -193,8 +194,8 @@ public class PermissionFilterTest {
         when(roleService.hasPermission(any(), any(), any())).thenReturn(true);
 
         permissionFilter.filter(permissions, containerRequestContext);
-        verify(apiService, never()).findById(any());
-        verify(applicationService, times(1)).findById(application.getId());
+        verify(apiService, never()).findGroupsById(any());
+        verify(applicationService, times(1)).findGroupsById(application.getId());
         verify(roleService, times(1)).hasPermission(any(), any(), any());
         verify(membershipService, times(1)).getMemberPermissions(application, USERNAME);
         verify(membershipService, never()).getRole(any(), any(), any(), any());
@@ -224,8 +225,8 @@ public class PermissionFilterTest {
         try {
             permissionFilter.filter(permissions, containerRequestContext);
         } catch(ForbiddenAccessException e) {
-            verify(applicationService, never()).findById(any());
-            verify(apiService, never()).findById(any());
+            verify(applicationService, never()).findGroupsById(any());
+            verify(apiService, never()).findGroupsById(any());
             verify(roleService, times(1)).hasPermission(any(), any(), any());
             verify(membershipService, never()).getMemberPermissions(any(ApiEntity.class), any());
             verify(membershipService, never()).getMemberPermissions(any(ApplicationEntity.class), any());
@@ -243,8 +244,8 @@ public class PermissionFilterTest {
 
         permissionFilter.filter(permissions, containerRequestContext);
 
-        verify(applicationService, never()).findById(any());
-        verify(apiService, never()).findById(any());
+        verify(applicationService, never()).findGroupsById(any());
+        verify(apiService, never()).findGroupsById(any());
         verify(roleService, times(1)).hasPermission(any(), any(), any());
         verify(membershipService, never()).getMemberPermissions(any(ApiEntity.class), any());
         verify(membershipService, never()).getMemberPermissions(any(ApplicationEntity.class), any());
@@ -275,8 +276,8 @@ public class PermissionFilterTest {
         try {
             permissionFilter.filter(permissions, containerRequestContext);
         } catch(ForbiddenAccessException e) {
-            verify(applicationService, never()).findById(any());
-            verify(apiService, never()).findById(any());
+            verify(applicationService, never()).findGroupsById(any());
+            verify(apiService, never()).findGroupsById(any());
             verify(roleService, times(1)).hasPermission(any(), any(), any());
             verify(membershipService, never()).getMemberPermissions(any(ApiEntity.class), any());
             verify(membershipService, never()).getMemberPermissions(any(ApplicationEntity.class), any());
@@ -294,8 +295,8 @@ public class PermissionFilterTest {
 
         permissionFilter.filter(permissions, containerRequestContext);
 
-        verify(applicationService, never()).findById(any());
-        verify(apiService, never()).findById(any());
+        verify(applicationService, never()).findGroupsById(any());
+        verify(apiService, never()).findGroupsById(any());
         verify(roleService, times(1)).hasPermission(any(), any(), any());
         verify(membershipService, never()).getMemberPermissions(any(ApiEntity.class), any());
         verify(membershipService, never()).getMemberPermissions(any(ApplicationEntity.class), any());
@@ -104,6 +104,7 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
         reset(identityProviderMapper);
         reset(viewEnhancer);
         reset(healthCheckService);
+        reset(apiVisibilityService);
     }
 
     public AbstractResourceTest() {
@@ -287,6 +288,9 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
     @Autowired
     protected HealthCheckService healthCheckService;
 
+    @Autowired
+    protected ApiVisibilityService apiVisibilityService;
+
     @Configuration
     @PropertySource("classpath:/io/gravitee/rest/api/portal/rest/resource/jwt.properties")
     static class ContextConfiguration {
@@ -565,5 +569,10 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
         public HealthCheckService healthCheckService() {
             return mock(HealthCheckService.class);
         }
+
+        @Bean
+        public ApiVisibilityService apiVisibilityService() {
+            return mock(ApiVisibilityService.class);
+        }
     }
 }
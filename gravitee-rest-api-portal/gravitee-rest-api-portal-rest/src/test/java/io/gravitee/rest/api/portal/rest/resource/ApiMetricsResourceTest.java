@@ -15,7 +15,6 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
-import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.analytics.query.StatsAnalytics;
 import io.gravitee.rest.api.model.analytics.query.StatsQuery;
 import io.gravitee.rest.api.model.api.ApiEntity;
@@ -92,22 +91,7 @@ public class ApiMetricsResourceTest extends AbstractResourceTest {
         mockAnalytics.setCount(API_NB_HITS);
         doReturn(mockAnalytics).when(analyticsService).execute(any(StatsQuery.class));
 
-        SubscriptionEntity subA1 = new SubscriptionEntity();
-        subA1.setApplication("A");
-        subA1.setApi(API);
-        SubscriptionEntity subA2 = new SubscriptionEntity();
-        subA2.setApplication("A");
-        subA2.setApi("2");
-        SubscriptionEntity subB1 = new SubscriptionEntity();
-        subB1.setApplication("B");
-        subB1.setApi(API);
-        SubscriptionEntity subC4 = new SubscriptionEntity();
-        subC4.setApplication("C");
-        subC4.setApi("4");
-        SubscriptionEntity subC8 = new SubscriptionEntity();
-        subC8.setApplication("C");
-        subC8.setApi("8");
-        doReturn(Arrays.asList(subC8, subA2, subB1, subC4, subA1)).when(subscriptionService).search(any());
+        doReturn(Collections.singletonMap(API, 2L)).when(subscriptionService).countByApis(any());
 
         io.gravitee.rest.api.model.healthcheck.ApiMetrics<Number> mockMetrics = new io.gravitee.rest.api.model.healthcheck.ApiMetrics<>();
         Map<String, Double> globalMetrics = new HashMap<>();
@@ -129,7 +113,7 @@ public class ApiMetricsResourceTest extends AbstractResourceTest {
     public void shouldGetEmptyApiMetrics() {
         // Case 1
         doReturn(null).when(analyticsService).execute(any(StatsQuery.class));
-        doReturn(null).when(subscriptionService).search(any());
+        doReturn(null).when(subscriptionService).countByApis(any());
         doReturn(null).when(healthCheckService).getAvailability(any(), any());
 
         Response response = target(API).path("metrics").request().get();
@@ -143,7 +127,7 @@ public class ApiMetricsResourceTest extends AbstractResourceTest {
         
         // Case 2
         doReturn(null).when(analyticsService).execute(any(StatsQuery.class));
-        doReturn(Collections.emptyList()).when(subscriptionService).search(any());
+        doReturn(Collections.emptyMap()).when(subscriptionService).countByApis(any());
         doReturn(new io.gravitee.rest.api.model.healthcheck.ApiMetrics<Number>()).when(healthCheckService).getAvailability(any(), any());
 
         response = target(API).path("metrics").request().get();
@@ -157,7 +141,7 @@ public class ApiMetricsResourceTest extends AbstractResourceTest {
         
         // Case 3
         doReturn(null).when(analyticsService).execute(any(StatsQuery.class));
-        doReturn(null).when(subscriptionService).search(any());
+        doReturn(null).when(subscriptionService).countByApis(any());
         io.gravitee.rest.api.model.healthcheck.ApiMetrics<Number> mockedMetrics = new io.gravitee.rest.api.model.healthcheck.ApiMetrics<>();
         mockedMetrics.setGlobal(Collections.singletonMap("1w", Double.NaN));
         doReturn(mockedMetrics).when(healthCheckService).getAvailability(any(), any());
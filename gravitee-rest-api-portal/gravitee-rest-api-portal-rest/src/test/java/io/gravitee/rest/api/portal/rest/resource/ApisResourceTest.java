@@ -193,25 +193,28 @@ public class ApisResourceTest extends AbstractResourceTest {
         ratingSummary1.setApi("1");
         ratingSummary1.setAverageRate(4.5);
         ratingSummary1.setNumberOfRatings(3);
-        doReturn(ratingSummary1).when(ratingService).findSummaryByApi("1");
 
         RatingSummaryEntity ratingSummary3 = new RatingSummaryEntity();
         ratingSummary3.setApi("3");
         ratingSummary3.setAverageRate(5.0);
         ratingSummary3.setNumberOfRatings(10);
-        doReturn(ratingSummary3).when(ratingService).findSummaryByApi("3");
 
         RatingSummaryEntity ratingSummary4 = new RatingSummaryEntity();
         ratingSummary4.setApi("4");
         ratingSummary4.setAverageRate(5.0);
         ratingSummary4.setNumberOfRatings(1);
-        doReturn(ratingSummary4).when(ratingService).findSummaryByApi("4");
 
         RatingSummaryEntity ratingSummary5 = new RatingSummaryEntity();
         ratingSummary5.setApi("5");
         ratingSummary5.setAverageRate(4.5);
         ratingSummary5.setNumberOfRatings(3);
-        doReturn(ratingSummary5).when(ratingService).findSummaryByApi("5");
+
+        Map<String, RatingSummaryEntity> summaries = new HashMap<>();
+        summaries.put("1", ratingSummary1);
+        summaries.put("3", ratingSummary3);
+        summaries.put("4", ratingSummary4);
+        summaries.put("5", ratingSummary5);
+        doReturn(summaries).when(ratingService).findSummariesByApis(any());
 
         final Response response = target().queryParam("cat", "STARRED").request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
@@ -227,23 +230,12 @@ public class ApisResourceTest extends AbstractResourceTest {
 
     @Test
     public void shouldGetTrendingsApi() {
-
-        SubscriptionEntity subA1 = new SubscriptionEntity();
-        subA1.setApplication("A");
-        subA1.setApi("1");
-        SubscriptionEntity subA2 = new SubscriptionEntity();
-        subA2.setApplication("A");
-        subA2.setApi("2");
-        SubscriptionEntity subB1 = new SubscriptionEntity();
-        subB1.setApplication("B");
-        subB1.setApi("1");
-        SubscriptionEntity subC4 = new SubscriptionEntity();
-        subC4.setApplication("C");
-        subC4.setApi("4");
-        SubscriptionEntity subC8 = new SubscriptionEntity();
-        subC8.setApplication("C");
-        subC8.setApi("8");
-        doReturn(Arrays.asList(subC8, subA2, subB1, subC4, subA1)).when(subscriptionService).search(any());
+        Map<String, Long> subscriptionsCount = new HashMap<>();
+        subscriptionsCount.put("1", 2L);
+        subscriptionsCount.put("2", 1L);
+        subscriptionsCount.put("4", 1L);
+        subscriptionsCount.put("8", 1L);
+        doReturn(subscriptionsCount).when(subscriptionService).countByApis(any());
 
         final Response response = target().queryParam("cat", "TRENDINGS").request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
@@ -393,18 +385,18 @@ public class ApisResourceTest extends AbstractResourceTest {
         searchedApi.setName("3");
         searchedApi.setId("3");
 
-        doReturn(new HashSet<>(Arrays.asList(searchedApi))).when(apiService).search(any(), any());
+        ApiEntity unpublishedApi = new ApiEntity();
+        unpublishedApi.setLifecycleState(ApiLifecycleState.UNPUBLISHED);
+        unpublishedApi.setName("33");
+        unpublishedApi.setId("33");
+
+        doReturn(new HashSet<>(Arrays.asList("3", "33"))).when(apiVisibilityService).findVisibleApiIds(USER_NAME);
+        doReturn(new HashSet<>(Arrays.asList(searchedApi, unpublishedApi))).when(apiService).search(any(), any());
         final Response response = target("/_search").queryParam("q", "3").request().post(Entity.json(null));
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        ArgumentCaptor<ApiQuery> queryCaptor = ArgumentCaptor.forClass(ApiQuery.class);
-        Mockito.verify(apiService).findPublishedByUser(eq(USER_NAME), queryCaptor.capture());
-        final ApiQuery query = queryCaptor.getValue();
-        assertNull(query.getContextPath());
-        assertNull(query.getLabel());
-        assertNull(query.getVersion());
-        assertNull(query.getName());
-        assertNull(query.getTag());
+        Mockito.verify(apiVisibilityService).findVisibleApiIds(USER_NAME);
+        Mockito.verify(apiService, Mockito.never()).findPublishedByUser(any(), any());
 
         ArgumentCaptor<String> basePathCaptor = ArgumentCaptor.forClass(String.class);
         Mockito.verify(apiMapper, Mockito.times(1)).computeApiLinks(basePathCaptor.capture());
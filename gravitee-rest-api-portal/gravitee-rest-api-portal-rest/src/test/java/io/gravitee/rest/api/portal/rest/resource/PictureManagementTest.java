@@ -75,8 +75,7 @@ public class PictureManagementTest {
         byte[] fileContent = baos.toByteArray();
         assertTrue(Arrays.equals(fileContent, imageContent));
         
-        String expectedTag = Integer.toString(new String(fileContent).hashCode());
-        assertEquals(expectedTag, etag);
+        assertEquals(mockImage.getHash(), etag);
         
         
         // test Cache
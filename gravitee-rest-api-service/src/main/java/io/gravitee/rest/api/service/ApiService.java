@@ -31,6 +31,12 @@ public interface ApiService {
 
     ApiEntity findById(String apiId);
 
+    /**
+     * @return the groups of the API, read without its definition nor its primary owner, or an empty set if the API
+     * does not exist.
+     */
+    Set<String> findGroupsById(String apiId);
+
     Set<ApiEntity> findAll();
 
     Set<ApiEntity> findAllLight();
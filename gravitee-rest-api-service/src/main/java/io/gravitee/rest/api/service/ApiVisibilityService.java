@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+public interface ApiVisibilityService {
+
+    /**
+     * @param userId the user ID, or <code>null</code> for an anonymous user.
+     * @return the IDs of the APIs of the current environment visible by the user: public APIs and APIs the user is a
+     * member of, directly or through a group.
+     */
+    Set<String> findVisibleApiIds(String userId);
+
+    /**
+     * @param userId the user ID, or <code>null</code> for an anonymous user.
+     * @return the IDs of the APIs of the current environment the user is a member of, directly or through a group,
+     * whatever their visibility.
+     */
+    Set<String> findMemberApiIds(String userId);
+}
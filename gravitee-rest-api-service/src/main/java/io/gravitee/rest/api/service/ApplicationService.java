@@ -33,6 +33,12 @@ public interface ApplicationService {
 
     ApplicationEntity findById(String applicationId);
 
+    /**
+     * @return the groups of the application, read without its primary owner, or an empty set if the application does
+     * not exist.
+     */
+    Set<String> findGroupsById(String applicationId);
+
     Set<ApplicationListItem> findByUser(String username);
 
     Set<ApplicationListItem> findByName(String name);
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.gravitee.common.http.HttpMethod;
 import io.vertx.core.buffer.Buffer;
@@ -27,4 +28,10 @@ import io.vertx.core.buffer.Buffer;
 public interface HttpClientService {
 
     Buffer request(HttpMethod method, final String uri, final Map<String, String> headers, String body, Boolean useSystemProxy);
+
+    /**
+     * Sends the request without blocking the caller. The returned future is completed with the response body when the
+     * target answers with a 200 status, and completed exceptionally otherwise.
+     */
+    CompletableFuture<Buffer> requestAsync(HttpMethod method, final String uri, final Map<String, String> headers, String body, Boolean useSystemProxy);
 }
@@ -25,4 +25,14 @@ import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 public interface PermissionService {
 
     boolean hasPermission(RolePermission permission, String referenceId, RolePermissionAction... acls);
+
+    /**
+     * Opens a permission context on the current thread: the memberships of the authenticated user are loaded once,
+     * on the first check, and every following check is answered from memory until {@link #clearContext()}.
+     * Within a context, an API or application which does not exist is denied (<code>false</code>) instead of being
+     * looked up, so that the check does not tell whether it exists.
+     */
+    void initContext();
+
+    void clearContext();
 }
@@ -19,6 +19,9 @@ import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.rest.api.model.*;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
  * @author GraviteeSource Team
@@ -33,6 +36,12 @@ public interface RatingService {
 
     RatingSummaryEntity findSummaryByApi(String api);
 
+    /**
+     * @param apis the API IDs.
+     * @return the rating summary of each given API, by API ID.
+     */
+    Map<String, RatingSummaryEntity> findSummariesByApis(Collection<String> apis);
+
     RatingEntity findByApiForConnectedUser(String api);
 
     RatingEntity update(UpdateRatingEntity rating);
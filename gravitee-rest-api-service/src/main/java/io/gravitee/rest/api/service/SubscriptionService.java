@@ -64,6 +64,14 @@ public interface SubscriptionService {
 
     Page<SubscriptionEntity> search(SubscriptionQuery query, Pageable pageable);
 
+    /**
+     * Count the subscriptions of each given API.
+     *
+     * @param apis the API IDs.
+     * @return the number of subscriptions by API ID, APIs without any subscription are not part of the result.
+     */
+    Map<String, Long> countByApis(Collection<String> apis);
+
     Metadata getMetadata(List<SubscriptionEntity> subscriptions);
     SubscriptionEntity transfer(TransferSubscriptionEntity transferSubscription, String userId);
     String exportAsCsv(Collection<SubscriptionEntity> subscriptions, Map<String, Map<String, Object>> metadata);
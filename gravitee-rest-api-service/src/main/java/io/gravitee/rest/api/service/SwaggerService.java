@@ -41,5 +41,12 @@ public interface SwaggerService {
 
     void transform(PageEntity page);
 
+    /**
+     * Evict the transformed document of a page, to be called when the page content is updated or removed.
+     *
+     * @param pageId Page ID
+     */
+    void evict(String pageId);
+
     String replaceServerList(String payload, List<String> graviteeUrls);
 }
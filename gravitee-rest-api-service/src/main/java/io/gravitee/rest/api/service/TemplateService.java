@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import freemarker.template.Template;
+
+import java.io.IOException;
+
+/**
+ * @author GraviteeSource Team
+ */
+public interface TemplateService {
+
+    /**
+     * Get the compiled FreeMarker template of an inline content, compiling it only if the same content has not been
+     * compiled under the same name before.
+     *
+     * @param name the template name, used in error messages.
+     * @param content the template source.
+     * @return the compiled template.
+     */
+    Template getTemplate(String name, String content) throws IOException;
+
+    long getHitCount();
+
+    long getMissCount();
+}
@@ -0,0 +1,27 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.event;
+
+/**
+ * Events changing the APIs a user is allowed to see. The content of a {@link #MEMBERSHIP} event is the ID of the
+ * user whose memberships have changed.
+ *
+ * @author GraviteeSource Team
+ */
+public enum ApiVisibilityEvent {
+
+    MEMBERSHIP, GROUP, API;
+}
@@ -19,10 +19,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.gravitee.common.component.Lifecycle;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.http.HttpMethod;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.definition.model.*;
@@ -43,6 +43,8 @@ import io.gravitee.rest.api.model.plan.PlanQuery;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.event.ApiVisibilityEvent;
+import io.gravitee.rest.api.service.impl.cache.PictureCache;
 import io.gravitee.rest.api.service.impl.search.SearchResult;
 import io.gravitee.rest.api.service.jackson.ser.api.ApiSerializer;
 import io.gravitee.rest.api.service.notification.ApiHook;
@@ -62,7 +64,6 @@ import io.gravitee.repository.management.model.ApiLifecycleState;
 import io.gravitee.repository.management.model.Visibility;
 import io.gravitee.repository.management.model.*;
 import io.vertx.core.buffer.Buffer;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -70,8 +71,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
 
-import javax.xml.bind.DatatypeConverter;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
@@ -134,6 +133,8 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     @Value("${configuration.default-icon:${gravitee.home}/assets/default_api_logo.png}")
     private String defaultIcon;
     @Autowired
+    private PictureCache pictureCache;
+    @Autowired
     private ApiMetadataService apiMetadataService;
     @Autowired
     private SubscriptionService subscriptionService;
@@ -152,7 +153,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     @Autowired
     private ApiHeaderService apiHeaderService;
     @Autowired
-    private Configuration freemarkerConfiguration;
+    private TemplateService templateService;
     @Autowired
     private ParameterService parameterService;
     @Autowired
@@ -169,6 +170,10 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     private AlertService alertService;
     @Autowired
     private RoleService roleService;
+    @Autowired
+    private ApiVisibilityService apiVisibilityService;
+    @Autowired
+    private EventManager eventManager;
 
     private static final Pattern LOGGING_MAX_DURATION_PATTERN = Pattern.compile("(?<before>.*)\\#request.timestamp\\s*\\<\\=?\\s*(?<timestamp>\\d*)l(?<after>.*)");
     private static final String LOGGING_MAX_DURATION_CONDITION = "#request.timestamp <= %dl";
@@ -445,11 +450,14 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 }
 
                 repoApi.setApiLifecycleState(ApiLifecycleState.CREATED);
+                // The review workflow of the new API is kept to convert it without reading it back
+                List<Workflow> workflows = null;
                 if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
-                    workflowService.create(WorkflowReferenceType.API, id, REVIEW, userId, DRAFT, "");
+                    workflows = singletonList(workflowService.create(WorkflowReferenceType.API, id, REVIEW, userId, DRAFT, ""));
                 }
 
                 Api createdApi = apiRepository.create(repoApi);
+                eventManager.publishEvent(ApiVisibilityEvent.API, createdApi.getId());
                 // Audit
                 auditService.createApiAuditLog(
                         createdApi.getId(),
@@ -478,7 +486,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 genericNotificationConfigService.create(notificationConfigEntity);
 
                 //TODO add membership log
-                ApiEntity apiEntity = convert(createdApi, primaryOwner);
+                ApiEntity apiEntity = convert(createdApi, primaryOwner, workflows);
                 searchEngineService.index(apiEntity, false);
                 return apiEntity;
             } else {
@@ -639,6 +647,22 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         }
     }
 
+    @Override
+    public Set<String> findGroupsById(String apiId) {
+        try {
+            LOGGER.debug("Find groups of API {}", apiId);
+            return apiRepository.search(new ApiCriteria.Builder().ids(apiId).build(),
+                    new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build())
+                    .stream()
+                    .findFirst()
+                    .map(Api::getGroups)
+                    .orElse(emptySet());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find groups of API {}", apiId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find groups of API " + apiId, ex);
+        }
+    }
+
     @Override
     public Set<ApiEntity> findAll() {
         try {
@@ -667,36 +691,30 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         try {
             LOGGER.debug("Find APIs by user {}", userId);
 
-            //get all public apis
-            List<Api> publicApis = apiRepository.search(queryToCriteria(apiQuery).visibility(PUBLIC).build());
-
-            // get user apis
-            List<Api> userApis = emptyList();
-            final String[] userApiIds = membershipRepository
-                    .findByUserAndReferenceType(userId, MembershipReferenceType.API).stream()
-                    .map(Membership::getReferenceId)
-                    .toArray(String[]::new);
-            if (userApiIds.length > 0) {
-                userApis = apiRepository.search(queryToCriteria(apiQuery).ids(userApiIds).build());
+            // public apis, read by visibility rather than by ids
+            final List<Api> apis = new ArrayList<>();
+            if (apiQuery == null || apiQuery.getVisibility() == null
+                    || apiQuery.getVisibility() == io.gravitee.rest.api.model.Visibility.PUBLIC) {
+                apis.addAll(apiRepository.search(queryToCriteria(apiQuery).visibility(Visibility.PUBLIC).build()));
             }
 
-            // get user groups apis
-            List<Api> groupApis = emptyList();
-            final String[] groupIds = membershipRepository
-                    .findByUserAndReferenceType(userId, MembershipReferenceType.GROUP).stream()
-                    .filter(m -> m.getRoles().keySet().contains(RoleScope.API.getId()))
-                    .map(Membership::getReferenceId)
+            // user apis and user groups apis which are not public
+            final Set<String> publicApiIds = apis.stream().map(Api::getId).collect(toSet());
+            final String[] memberApiIds = apiVisibilityService.findMemberApiIds(userId)
+                    .stream()
+                    .filter(apiId -> !publicApiIds.contains(apiId))
                     .toArray(String[]::new);
-            if (groupIds.length > 0 && groupIds[0] != null) {
-                groupApis = apiRepository.search(queryToCriteria(apiQuery).groups(groupIds).build());
+            if (memberApiIds.length > 0) {
+                apiRepository.search(queryToCriteria(apiQuery).ids(memberApiIds).build())
+                        .stream()
+                        .filter(api -> !publicApiIds.contains(api.getId()))
+                        .forEach(apis::add);
             }
 
-            // merge all apis
-            final Set<ApiEntity> apis = new HashSet<>(publicApis.size() + userApis.size() + groupApis.size());
-            apis.addAll(convert(publicApis));
-            apis.addAll(convert(userApis));
-            apis.addAll(convert(groupApis));
-            return filterApiByQuery(apis.stream(), apiQuery).collect(Collectors.toSet());
+            if (apis.isEmpty()) {
+                return emptySet();
+            }
+            return filterApiByQuery(convert(apis).stream(), apiQuery).collect(Collectors.toSet());
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find APIs for user {}", userId, ex);
             throw new TechnicalManagementException("An error occurs while trying to find APIs for user " + userId, ex);
@@ -830,6 +848,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 }
 
                 Api updatedApi = apiRepository.update(api);
+                eventManager.publishEvent(ApiVisibilityEvent.API, apiId);
 
                 // Audit
                 auditService.createApiAuditLog(
@@ -966,6 +985,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
                 // Delete API
                 apiRepository.delete(apiId);
+                eventManager.publishEvent(ApiVisibilityEvent.API, apiId);
                 // Delete top API
                 topApiService.delete(apiId);
                 // Delete alerts
@@ -1397,29 +1417,30 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
     @Override
     public InlinePictureEntity getPicture(String apiId) {
-        ApiEntity apiEntity = findById(apiId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
-        if (apiEntity.getPicture() == null) {
-            imageEntity.setType("image/png");
-            imageEntity.setContent(getDefaultPicture());
-        } else {
-            String[] parts = apiEntity.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = apiEntity.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+        try {
+            LOGGER.debug("Get picture of API: {}", apiId);
+
+            // Only the picture is needed: the definition is neither read nor parsed
+            final Api api = apiRepository.search(
+                    new ApiCriteria.Builder().ids(apiId).build(),
+                    new ApiFieldExclusionFilter.Builder().excludeDefinition().build())
+                    .stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ApiNotFoundException(apiId));
+
+            if (api.getPicture() == null) {
+                return pictureCache.getDefaultPicture(defaultIcon);
+            }
+            return pictureCache.getPicture("api:" + apiId, api.getPicture());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to get picture of API {}", apiId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to get picture of API " + apiId, ex);
         }
-
-        return imageEntity;
     }
 
     @Override
     public byte[] getDefaultPicture() {
-        try {
-            return IOUtils.toByteArray(new FileInputStream(defaultIcon));
-        } catch (IOException ioe) {
-            LOGGER.error("Default icon for API does not exist", ioe);
-        }
-        return null;
+        return pictureCache.getDefaultPicture(defaultIcon).getContent();
     }
 
     @Override
@@ -1561,7 +1582,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 // this avoid exception with existing header which is trying to get value from context-path
                 if (! entity.getName().equals("api.endpoint") && entity.getValue().contains("${")) {
                     try {
-                        Template template = new Template(entity.getId() + entity.getUpdatedAt().toString(), entity.getValue(), freemarkerConfiguration);
+                        Template template = templateService.getTemplate(entity.getId(), entity.getValue());
                         entity.setValue(FreeMarkerTemplateUtils.processTemplateIntoString(template, model));
                     } catch (IOException | TemplateException e) {
                         LOGGER.error("Unable to apply templating on api headers ", e);
@@ -1807,6 +1828,15 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 SystemRole.PRIMARY_OWNER.name()
         );
 
+        //find review workflows of all apis together instead of once per converted api
+        final Map<String, List<Workflow>> apiToWorkflows;
+        if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
+            apiToWorkflows = workflowService.findByEachReferenceAndType(
+                    API, apis.stream().map(Api::getId).collect(toList()), REVIEW);
+        } else {
+            apiToWorkflows = null;
+        }
+
         int poMissing = apis.size() - memberships.size();
         final Set<String> apiIds = apis.stream().map(Api::getId).collect(toSet());
         Stream<Api> streamApis = apis.stream();
@@ -1831,7 +1861,8 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 .forEach(userEntity -> userIdToUserEntity.put(userEntity.getId(), userEntity));
 
         return streamApis
-                .map(publicApi -> this.convert(publicApi, userIdToUserEntity.get(apiToUser.get(publicApi.getId()))))
+                .map(publicApi -> this.convert(publicApi, userIdToUserEntity.get(apiToUser.get(publicApi.getId())),
+                        apiToWorkflows == null ? null : apiToWorkflows.get(publicApi.getId())))
                 .collect(toSet());
     }
 
@@ -1840,6 +1871,14 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     }
 
     private ApiEntity convert(Api api, UserEntity primaryOwner) {
+        List<Workflow> workflows = null;
+        if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
+            workflows = workflowService.findByReferenceAndType(API, api.getId(), REVIEW);
+        }
+        return convert(api, primaryOwner, workflows);
+    }
+
+    private ApiEntity convert(Api api, UserEntity primaryOwner, List<Workflow> workflows) {
         ApiEntity apiEntity = new ApiEntity();
 
         apiEntity.setId(api.getId());
@@ -1890,11 +1929,8 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             apiEntity.setLifecycleState(io.gravitee.rest.api.model.api.ApiLifecycleState.valueOf(lifecycleState.name()));
         }
 
-        if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
-            final List<Workflow> workflows = workflowService.findByReferenceAndType(API, api.getId(), REVIEW);
-            if (workflows != null && !workflows.isEmpty()) {
-                apiEntity.setWorkflowState(WorkflowState.valueOf(workflows.get(0).getState()));
-            }
+        if (workflows != null && !workflows.isEmpty()) {
+            apiEntity.setWorkflowState(WorkflowState.valueOf(workflows.get(0).getState()));
         }
 
         return apiEntity;
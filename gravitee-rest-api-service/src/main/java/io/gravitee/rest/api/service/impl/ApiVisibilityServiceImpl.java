@@ -0,0 +1,195 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.service.ApiVisibilityService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.event.ApiVisibilityEvent;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static io.gravitee.repository.management.model.Visibility.PUBLIC;
+
+/**
+ * Public APIs are cached by environment, and the APIs a user is a member of are cached by user, until a membership,
+ * group or API change is notified through the {@link EventManager}. As changes made on other nodes are not notified,
+ * entries also expire after a configurable delay.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ApiVisibilityServiceImpl implements ApiVisibilityService, EventListener<ApiVisibilityEvent, String>, InitializingBean {
+
+    /**
+     * Logger.
+     */
+    private final Logger LOGGER = LoggerFactory.getLogger(ApiVisibilityServiceImpl.class);
+
+    private static final String KEY_SEPARATOR = "|";
+    private static final ApiFieldExclusionFilter EXCLUSION_FILTER = new ApiFieldExclusionFilter.Builder()
+            .excludeDefinition().excludePicture().build();
+
+    @Autowired
+    private ApiRepository apiRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Value("${apis.visibility.cache.ttl:60}")
+    private long cacheTtl;
+
+    @Value("${apis.visibility.cache.size:10000}")
+    private long cacheSize;
+
+    private Cache<String, Set<String>> publicApis;
+
+    private Cache<String, Set<String>> memberApis;
+
+    @Override
+    public void afterPropertiesSet() {
+        publicApis = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                .build();
+        memberApis = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                .maximumSize(cacheSize)
+                .build();
+
+        eventManager.subscribeForEvents(this, ApiVisibilityEvent.class);
+    }
+
+    @Override
+    public Set<String> findVisibleApiIds(String userId) {
+        final Set<String> memberApiIds = findMemberApiIds(userId);
+        final Set<String> publicApiIds = findPublicApiIds();
+        if (memberApiIds.isEmpty()) {
+            return publicApiIds;
+        }
+        final Set<String> apiIds = new HashSet<>(publicApiIds);
+        apiIds.addAll(memberApiIds);
+        return Collections.unmodifiableSet(apiIds);
+    }
+
+    @Override
+    public Set<String> findMemberApiIds(String userId) {
+        if (userId == null) {
+            return Collections.emptySet();
+        }
+        final String environment = GraviteeContext.getCurrentEnvironment();
+        try {
+            return memberApis.get(environment + KEY_SEPARATOR + userId, () -> loadMemberApiIds(environment, userId));
+        } catch (ExecutionException ex) {
+            LOGGER.error("An error occurs while trying to find APIs of user {}", userId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find APIs of user " + userId, ex);
+        }
+    }
+
+    private Set<String> findPublicApiIds() {
+        final String environment = GraviteeContext.getCurrentEnvironment();
+        try {
+            return publicApis.get(environment, () -> loadPublicApiIds(environment));
+        } catch (ExecutionException ex) {
+            LOGGER.error("An error occurs while trying to find public APIs", ex);
+            throw new TechnicalManagementException("An error occurs while trying to find public APIs", ex);
+        }
+    }
+
+    private Set<String> loadPublicApiIds(String environment) throws TechnicalException {
+        LOGGER.debug("Load public APIs of environment {}", environment);
+        return Collections.unmodifiableSet(apiRepository
+                .search(new ApiCriteria.Builder().environment(environment).visibility(PUBLIC).build(), EXCLUSION_FILTER)
+                .stream()
+                .map(Api::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    private Set<String> loadMemberApiIds(String environment, String userId) throws TechnicalException {
+        LOGGER.debug("Load APIs of user {}", userId);
+        final Set<String> apiIds = new HashSet<>();
+
+        // user apis
+        final String[] userApiIds = membershipRepository
+                .findByUserAndReferenceType(userId, MembershipReferenceType.API).stream()
+                .map(Membership::getReferenceId)
+                .toArray(String[]::new);
+        if (userApiIds.length > 0) {
+            apiRepository.search(new ApiCriteria.Builder().environment(environment).ids(userApiIds).build(), EXCLUSION_FILTER)
+                    .stream()
+                    .map(Api::getId)
+                    .forEach(apiIds::add);
+        }
+
+        // user groups apis
+        final String[] groupIds = membershipRepository
+                .findByUserAndReferenceType(userId, MembershipReferenceType.GROUP).stream()
+                .filter(m -> m.getRoles().keySet().contains(RoleScope.API.getId()))
+                .map(Membership::getReferenceId)
+                .toArray(String[]::new);
+        if (groupIds.length > 0 && groupIds[0] != null) {
+            apiRepository.search(new ApiCriteria.Builder().environment(environment).groups(groupIds).build(), EXCLUSION_FILTER)
+                    .stream()
+                    .map(Api::getId)
+                    .forEach(apiIds::add);
+        }
+
+        return Collections.unmodifiableSet(apiIds);
+    }
+
+    @Override
+    public void onEvent(Event<ApiVisibilityEvent, String> event) {
+        if (event.type() == ApiVisibilityEvent.MEMBERSHIP && event.content() != null) {
+            final String userSuffix = KEY_SEPARATOR + event.content();
+            memberApis.asMap().keySet().removeIf(key -> key.endsWith(userSuffix));
+        } else {
+            // Group APIs are shared by many users
+            memberApis.invalidateAll();
+            if (event.type() != ApiVisibilityEvent.GROUP) {
+                publicApis.invalidateAll();
+            }
+        }
+    }
+}
@@ -21,7 +21,6 @@ import static io.gravitee.repository.management.model.Application.AuditEvent.APP
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonMap;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
@@ -37,10 +36,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javax.xml.bind.DatatypeConverter;
-
 import io.gravitee.rest.api.service.exceptions.*;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -92,6 +88,7 @@ import io.gravitee.rest.api.service.SubscriptionService;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.configuration.application.ClientRegistrationService;
+import io.gravitee.rest.api.service.impl.cache.PictureCache;
 import io.gravitee.rest.api.service.impl.configuration.application.registration.client.register.ClientRegistrationResponse;
 import io.gravitee.rest.api.service.notification.ApplicationHook;
 import io.gravitee.rest.api.service.notification.HookScope;
@@ -138,6 +135,9 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
 
     @Value("${configuration.default-icon:${gravitee.home}/assets/default_application_logo.png}")
     private String defaultIcon;
+
+    @Autowired
+    private PictureCache pictureCache;
     
     private final ObjectMapper mapper = new ObjectMapper();
 
@@ -171,6 +171,19 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         }
     }
 
+    @Override
+    public Set<String> findGroupsById(String applicationId) {
+        try {
+            LOGGER.debug("Find groups of application {}", applicationId);
+            return applicationRepository.findById(applicationId)
+                    .map(Application::getGroups)
+                    .orElse(emptySet());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find groups of application {}", applicationId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find groups of application " + applicationId, ex);
+        }
+    }
+
     @Override
     public Set<ApplicationListItem> findByUser(String username) {
         try {
@@ -796,28 +809,25 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
     
     @Override
     public InlinePictureEntity getPicture(String applicationId) {
-        ApplicationEntity applicationEntity = findById(applicationId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
-        if (applicationEntity.getPicture() == null) {
-            imageEntity.setType("image/png");
-            imageEntity.setContent(getDefaultPicture());
-        } else {
-            String[] parts = applicationEntity.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = applicationEntity.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-        }
+        try {
+            LOGGER.debug("Get picture of application: {}", applicationId);
 
-        return imageEntity;
+            // Only the picture is needed: neither the primary owner nor the metadata are resolved
+            final Application application = applicationRepository.findById(applicationId)
+                    .orElseThrow(() -> new ApplicationNotFoundException(applicationId));
+
+            if (application.getPicture() == null) {
+                return pictureCache.getDefaultPicture(defaultIcon);
+            }
+            return pictureCache.getPicture("application:" + applicationId, application.getPicture());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to get picture of application {}", applicationId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to get picture of application " + applicationId, ex);
+        }
     }
 
     @Override
     public byte[] getDefaultPicture() {
-        try {
-            return IOUtils.toByteArray(new FileInputStream(defaultIcon));
-        } catch (IOException ioe) {
-            LOGGER.error("Default icon for API does not exist", ioe);
-        }
-        return null;
+        return pictureCache.getDefaultPicture(defaultIcon).getContent();
     }
 }
@@ -15,9 +15,6 @@
  */
 package io.gravitee.rest.api.service.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.github.fge.jsonpatch.diff.JsonDiff;
 import io.gravitee.common.data.domain.MetadataPage;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.utils.UUID;
@@ -30,15 +27,12 @@ import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.audit.AuditEntity;
 import io.gravitee.rest.api.model.audit.AuditQuery;
 import io.gravitee.rest.api.service.AuditService;
-import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
-import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
+import io.gravitee.rest.api.service.impl.audit.AuditWriter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import static io.gravitee.rest.api.service.impl.MetadataServiceImpl.getDefautReferenceId;
@@ -61,9 +55,6 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     @Autowired
     private PageRepository pageRepository;
 
-    @Autowired
-    private PlanRepository planRepository;
-
     @Autowired
     private MetadataRepository metadataRepository;
 
@@ -71,17 +62,10 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     private GroupRepository groupRepository;
 
     @Autowired
-    private ApiRepository apiRepository;
-
-    @Autowired
-    private ApplicationRepository applicationRepository;
-
-    @Autowired
-    @Lazy
-    private UserService userService;
+    private AuditWriter auditWriter;
 
     @Autowired
-    private ObjectMapper mapper;
+    private BatchMetadataResolver metadataResolver;
 
     @Override
     public MetadataPage<AuditEntity> search(AuditQuery query) {
@@ -123,27 +107,53 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
 
     private Map<String, String> getMetadata(List<AuditEntity> content) {
         Map<String, String> metadata = new HashMap<>();
+
+        final BatchMetadataResolver.Batch batch = metadataResolver.newBatch();
+        for (AuditEntity auditEntity : content) {
+            batch.user(auditEntity.getUser());
+            if (Audit.AuditReferenceType.API.name().equals(auditEntity.getReferenceType())) {
+                batch.api(auditEntity.getReferenceId());
+            } else if (Audit.AuditReferenceType.APPLICATION.name().equals(auditEntity.getReferenceType())) {
+                batch.application(auditEntity.getReferenceId());
+            }
+            if (auditEntity.getProperties() != null) {
+                final String api = Audit.AuditReferenceType.API.name().equals(auditEntity.getReferenceType()) ?
+                        auditEntity.getReferenceId() : auditEntity.getProperties().get(Audit.AuditProperties.API.name());
+                for (Map.Entry<String, String> property : auditEntity.getProperties().entrySet()) {
+                    if (Audit.AuditProperties.API.name().equals(property.getKey())) {
+                        batch.api(property.getValue());
+                    } else if (Audit.AuditProperties.APPLICATION.name().equals(property.getKey())) {
+                        batch.application(property.getValue());
+                    } else if (Audit.AuditProperties.PLAN.name().equals(property.getKey())) {
+                        batch.plan(property.getValue(), api);
+                    } else if (Audit.AuditProperties.USER.name().equals(property.getKey())) {
+                        batch.user(property.getValue());
+                    }
+                }
+            }
+        }
+
         for (AuditEntity auditEntity : content) {
             //add user's display name
             String metadataKey = "USER:"+auditEntity.getUser()+":name";
-            try {
-                UserEntity user = userService.findById(auditEntity.getUser());
-                metadata.put(metadataKey, user.getDisplayName());
-            } catch (TechnicalManagementException e) {
-                LOGGER.error("Error finding metadata {}", auditEntity.getUser());
-            } catch (UserNotFoundException unfe) {
-                metadata.put(metadataKey, auditEntity.getUser());
+            if (!metadata.containsKey(metadataKey)) {
+                try {
+                    Optional<UserEntity> optUser = batch.getUser(auditEntity.getUser());
+                    metadata.put(metadataKey, optUser.isPresent() ? optUser.get().getDisplayName() : auditEntity.getUser());
+                } catch (TechnicalManagementException e) {
+                    LOGGER.error("Error finding metadata {}", auditEntity.getUser());
+                }
             }
 
             if (Audit.AuditReferenceType.API.name().equals(auditEntity.getReferenceType())) {
                 metadataKey = "API:" + auditEntity.getReferenceId() + ":name";
                 if (!metadata.containsKey(metadataKey)) {
                     try {
-                        Optional<Api> optApi = apiRepository.findById(auditEntity.getReferenceId());
+                        Optional<Api> optApi = batch.getApi(auditEntity.getReferenceId());
                         if (optApi.isPresent()) {
                             metadata.put(metadataKey, optApi.get().getName());
                         }
-                    } catch (TechnicalException e) {
+                    } catch (TechnicalManagementException e) {
                         LOGGER.error("Error finding metadata {}", metadataKey);
                         metadata.put(metadataKey, auditEntity.getReferenceId());
                     }
@@ -152,11 +162,11 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                 metadataKey = "APPLICATION:" + auditEntity.getReferenceId() + ":name";
                 if (!metadata.containsKey(metadataKey)) {
                     try {
-                        Optional<Application> optApp = applicationRepository.findById(auditEntity.getReferenceId());
+                        Optional<Application> optApp = batch.getApplication(auditEntity.getReferenceId());
                         if (optApp.isPresent()) {
                             metadata.put(metadataKey, optApp.get().getName());
                         }
-                    } catch (TechnicalException e) {
+                    } catch (TechnicalManagementException e) {
                         LOGGER.error("Error finding metadata {}", metadataKey);
                         metadata.put(metadataKey, auditEntity.getReferenceId());
                     }
@@ -177,13 +187,13 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                         try {
                             switch (Audit.AuditProperties.valueOf(property.getKey())) {
                                 case API:
-                                    Optional<Api> optApi = apiRepository.findById(property.getValue());
+                                    Optional<Api> optApi = batch.getApi(property.getValue());
                                     if (optApi.isPresent()) {
                                         name = optApi.get().getName();
                                     }
                                     break;
                                 case APPLICATION:
-                                    Optional<Application> optApp = applicationRepository.findById(property.getValue());
+                                    Optional<Application> optApp = batch.getApplication(property.getValue());
                                     if (optApp.isPresent()) {
                                         name = optApp.get().getName();
                                     }
@@ -195,7 +205,7 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                                     }
                                     break;
                                 case PLAN:
-                                    Optional<Plan> optPlan = planRepository.findById(property.getValue());
+                                    Optional<Plan> optPlan = batch.getPlan(property.getValue());
                                     if (optPlan.isPresent()) {
                                         name = optPlan.get().getName();
                                     }
@@ -220,16 +230,14 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                                     }
                                     break;
                                 case USER:
-                                    try {
-                                        UserEntity user = userService.findById(property.getValue());
-                                        name = user.getDisplayName();
-                                    } catch (UserNotFoundException unfe) {
-                                        name = property.getValue();
+                                    Optional<UserEntity> optUser = batch.getUser(property.getValue());
+                                    if (optUser.isPresent()) {
+                                        name = optUser.get().getDisplayName();
                                     }
                                 default:
                                     break;
                             }
-                        } catch (TechnicalException e) {
+                        } catch (TechnicalException | TechnicalManagementException e) {
                             LOGGER.error("Error finding metadata {}", metadataKey);
                             name = property.getValue();
                         }
@@ -302,7 +310,6 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                 newValue);
     }
 
-    @Async
     protected void create(Audit.AuditReferenceType referenceType, String referenceId, Map<Audit.AuditProperties,String> properties,
                           Audit.AuditEvent event, String userId, Date createdAt,
                           Object oldValue, Object newValue) {
@@ -320,20 +327,7 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         audit.setReferenceId(referenceId);
         audit.setEvent(event.name());
 
-        ObjectNode oldNode = oldValue == null
-                ? mapper.createObjectNode()
-                : mapper.convertValue(oldValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
-        ObjectNode newNode = newValue == null
-                ? mapper.createObjectNode()
-                : mapper.convertValue(newValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
-
-        audit.setPatch(JsonDiff.asJson(oldNode, newNode).toString());
-
-        try {
-            auditRepository.create(audit);
-        } catch (TechnicalException e) {
-            LOGGER.error("Error occurs during the creation of an Audit Log {}.", e);
-        }
+        auditWriter.write(audit, oldValue, newValue);
     }
 
     private AuditEntity convert(Audit audit) {
@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Application;
+import io.gravitee.repository.management.model.Plan;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.service.UserService;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Resolves the APIs, applications, plans and users referenced by a page of results (subscriptions, tasks, logs,
+ * audits...) with one repository call per entity type instead of one call per row.
+ *
+ * Callers open a {@link Batch}, register every id they will need, then read the entities back. Registered ids are
+ * loaded all at once on the first read of their type, and results are memoized for the lifetime of the batch.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class BatchMetadataResolver {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(BatchMetadataResolver.class);
+
+    @Autowired
+    private ApiRepository apiRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    @Lazy
+    private UserService userService;
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    public class Batch {
+
+        private final Set<String> pendingApis = new HashSet<>();
+        private final Set<String> pendingApplications = new HashSet<>();
+        private final Set<String> pendingPlans = new HashSet<>();
+        private final Set<String> pendingPlanApis = new HashSet<>();
+        private final Set<String> pendingUsers = new HashSet<>();
+
+        private final Map<String, Api> apis = new HashMap<>();
+        private final Map<String, Application> applications = new HashMap<>();
+        private final Map<String, Plan> plans = new HashMap<>();
+        private final Map<String, UserEntity> users = new HashMap<>();
+
+        private final Set<String> resolved = new HashSet<>();
+        private final Set<String> resolvedPlanApis = new HashSet<>();
+
+        private Batch() {
+        }
+
+        public Batch api(String api) {
+            register(api, "API:", pendingApis);
+            return this;
+        }
+
+        public Batch application(String application) {
+            register(application, "APPLICATION:", pendingApplications);
+            return this;
+        }
+
+        /**
+         * Plans can only be loaded in bulk by API: when the API of the plan is known, all the plans of that API are
+         * fetched at once, otherwise the plan is looked up on its own.
+         */
+        public Batch plan(String plan, String api) {
+            register(plan, "PLAN:", pendingPlans);
+            if (plan != null && api != null && !resolvedPlanApis.contains(api)) {
+                pendingPlanApis.add(api);
+            }
+            return this;
+        }
+
+        public Batch user(String user) {
+            register(user, "USER:", pendingUsers);
+            return this;
+        }
+
+        public Optional<Api> getApi(String api) {
+            api(api);
+            loadApis();
+            return Optional.ofNullable(apis.get(api));
+        }
+
+        public Optional<Application> getApplication(String application) {
+            application(application);
+            loadApplications();
+            return Optional.ofNullable(applications.get(application));
+        }
+
+        public Optional<Plan> getPlan(String plan) {
+            plan(plan, null);
+            loadPlans();
+            return Optional.ofNullable(plans.get(plan));
+        }
+
+        public Optional<UserEntity> getUser(String user) {
+            user(user);
+            loadUsers();
+            return Optional.ofNullable(users.get(user));
+        }
+
+        private void register(String id, String type, Set<String> pending) {
+            if (id != null && !resolved.contains(type + id)) {
+                pending.add(id);
+            }
+        }
+
+        private void markResolved(String type, Set<String> pending) {
+            pending.forEach(id -> resolved.add(type + id));
+            pending.clear();
+        }
+
+        private void loadApis() {
+            if (pendingApis.isEmpty()) {
+                return;
+            }
+            LOGGER.debug("Find APIs by ids: {}", pendingApis);
+            // Only names and versions are resolved, the definitions and pictures are not read
+            apiRepository.search(new ApiCriteria.Builder().ids(pendingApis.toArray(new String[0])).build(),
+                    new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build())
+                    .forEach(api -> apis.put(api.getId(), api));
+            markResolved("API:", pendingApis);
+        }
+
+        private void loadApplications() {
+            if (pendingApplications.isEmpty()) {
+                return;
+            }
+            try {
+                LOGGER.debug("Find applications by ids: {}", pendingApplications);
+                applicationRepository.findByIds(new ArrayList<>(pendingApplications))
+                        .forEach(application -> applications.put(application.getId(), application));
+                markResolved("APPLICATION:", pendingApplications);
+            } catch (TechnicalException ex) {
+                LOGGER.error("An error occurs while trying to find applications {}", pendingApplications, ex);
+                throw new TechnicalManagementException("An error occurs while trying to find applications " + pendingApplications, ex);
+            }
+        }
+
+        private void loadPlans() {
+            if (pendingPlans.isEmpty()) {
+                return;
+            }
+            try {
+                for (String api : pendingPlanApis) {
+                    LOGGER.debug("Find plans by api: {}", api);
+                    planRepository.findByApi(api).forEach(plan -> plans.put(plan.getId(), plan));
+                    resolvedPlanApis.add(api);
+                }
+                pendingPlanApis.clear();
+
+                for (String plan : pendingPlans) {
+                    if (!plans.containsKey(plan)) {
+                        planRepository.findById(plan).ifPresent(p -> plans.put(p.getId(), p));
+                    }
+                }
+                markResolved("PLAN:", pendingPlans);
+            } catch (TechnicalException ex) {
+                LOGGER.error("An error occurs while trying to find plans {}", pendingPlans, ex);
+                throw new TechnicalManagementException("An error occurs while trying to find plans " + pendingPlans, ex);
+            }
+        }
+
+        private void loadUsers() {
+            if (pendingUsers.isEmpty()) {
+                return;
+            }
+            try {
+                userService.findByIds(new ArrayList<>(pendingUsers)).forEach(user -> users.put(user.getId(), user));
+            } catch (UserNotFoundException unfe) {
+                // none of the users exist anymore
+            }
+            markResolved("USER:", pendingUsers);
+        }
+    }
+}
@@ -42,6 +42,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static io.gravitee.rest.api.service.spring.AsyncConfiguration.MAIL_EXECUTOR;
 import static java.lang.String.format;
 import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -112,7 +113,7 @@ public class EmailServiceImpl extends TransactionalService implements EmailServi
         }
     }
 
-    @Async
+    @Async(MAIL_EXECUTOR)
     public void sendAsyncEmailNotification(final EmailNotification emailNotification) {
         sendEmailNotification(emailNotification);
     }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.EntrypointRepository;
@@ -28,6 +29,7 @@ import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.EntrypointNotFoundException;
 import io.gravitee.rest.api.service.exceptions.EntrypointTagsAlreadyExistsException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,11 +52,14 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
 
     private final Logger LOGGER = LoggerFactory.getLogger(EntrypointServiceImpl.class);
     private final static String SEPARATOR = ";";
+    private final static String ENTRYPOINTS_CACHE = "entrypoints";
 
     @Autowired
     private AuditService auditService;
     @Autowired
     private EntrypointRepository entrypointRepository;
+    @Autowired
+    private ClusteredCacheManager cacheManager;
 
     @Override
     public EntrypointEntity findById(final String entrypointId) {
@@ -75,9 +80,16 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
     public List<EntrypointEntity> findAll() {
         try {
             LOGGER.debug("Find all APIs");
-            return entrypointRepository.findAllByEnvironment(GraviteeContext.getCurrentEnvironment())
-                    .stream()
-                    .map(this::convert).collect(Collectors.toList());
+            final String environment = GraviteeContext.getCurrentEnvironment();
+            final Cache<String, List<EntrypointEntity>> cache = cacheManager.getCache(ENTRYPOINTS_CACHE);
+            List<EntrypointEntity> entrypoints = cache.getIfPresent(environment);
+            if (entrypoints == null) {
+                entrypoints = entrypointRepository.findAllByEnvironment(environment)
+                        .stream()
+                        .map(this::convert).collect(Collectors.toList());
+                cache.put(environment, entrypoints);
+            }
+            return new ArrayList<>(entrypoints);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find all entrypoints", ex);
             throw new TechnicalManagementException("An error occurs while trying to find all entrypoints", ex);
@@ -91,6 +103,7 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
             final Entrypoint entrypoint = convert(entrypointEntity);
             entrypoint.setEnvironment(GraviteeContext.getCurrentEnvironment());
             final EntrypointEntity savedEntryPoint = convert(entrypointRepository.create(entrypoint));
+            cacheManager.invalidate(ENTRYPOINTS_CACHE);
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ENTRYPOINT, entrypoint.getId()),
                     ENTRYPOINT_CREATED,
@@ -113,6 +126,7 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
                 final Entrypoint entrypoint = convert(entrypointEntity);
                 entrypoint.setEnvironment(entrypointOptional.get().getEnvironment());
                 final EntrypointEntity savedEntryPoint = convert(entrypointRepository.update(entrypoint));
+                cacheManager.invalidate(ENTRYPOINTS_CACHE);
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(ENTRYPOINT, entrypoint.getId()),
                         ENTRYPOINT_UPDATED,
@@ -150,6 +164,7 @@ public class EntrypointServiceImpl extends TransactionalService implements Entry
             Optional<Entrypoint> entrypointOptional = entrypointRepository.findById(entrypointId);
             if (entrypointOptional.isPresent()) {
                 entrypointRepository.delete(entrypointId);
+                cacheManager.invalidate(ENTRYPOINTS_CACHE);
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(ENTRYPOINT, entrypointId),
                         ENTRYPOINT_DELETED,
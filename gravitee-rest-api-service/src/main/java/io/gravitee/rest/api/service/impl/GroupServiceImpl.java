@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
@@ -34,6 +35,7 @@ import io.gravitee.rest.api.service.GroupService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PermissionService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.event.ApiVisibilityEvent;
 import io.gravitee.rest.api.service.exceptions.GroupNameAlreadyExistsException;
 import io.gravitee.rest.api.service.exceptions.GroupNotFoundException;
 import io.gravitee.rest.api.service.exceptions.GroupsNotFoundException;
@@ -73,6 +75,8 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
     private AuditService auditService;
     @Autowired
     private PermissionService permissionService;
+    @Autowired
+    private EventManager eventManager;
 
     @Override
     public List<GroupEntity> findAll() {
@@ -314,6 +318,7 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
             });
             //remove group
             groupRepository.delete(groupId);
+            eventManager.publishEvent(ApiVisibilityEvent.GROUP, groupId);
 
             // Audit
             auditService.createPortalAuditLog(
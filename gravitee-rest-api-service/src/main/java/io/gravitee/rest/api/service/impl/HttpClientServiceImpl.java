@@ -18,10 +18,12 @@ package io.gravitee.rest.api.service.impl;
 import java.net.URI;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -39,6 +41,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
 
@@ -47,7 +50,7 @@ import io.vertx.core.net.ProxyType;
  * @author GraviteeSource Team
  */
 @Component
-public class HttpClientServiceImpl extends AbstractService implements HttpClientService {
+public class HttpClientServiceImpl extends AbstractService implements HttpClientService, DisposableBean {
     private final Logger LOGGER = LoggerFactory.getLogger(HttpClientServiceImpl.class);
 
     private static final String HTTPS_SCHEME = "https";
@@ -78,24 +81,49 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
     @Value("#{systemProperties['httpClient.proxy'] == null ? false : true }")
     private boolean isProxyConfigured;
     
+    @Value("${httpClient.maxPoolSize:10}")
+    private int httpClientMaxPoolSize;
+    @Value("${httpClient.idleTimeout:60}")
+    private int httpClientIdleTimeout;
+    @Value("${httpClient.http2.enabled:false}")
+    private boolean http2Enabled;
+
     @Autowired
     private Vertx vertx;
-    
-    private HttpClient getHttpClient(String uriScheme, Boolean useSystemProxy) {
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uriScheme);
 
+    /**
+     * Clients are shared by all the requests using the same scheme and proxy settings. Each client keeps a pool of
+     * keep-alive connections per target host and port.
+     */
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    private HttpClient getHttpClient(String uriScheme, boolean useProxy) {
+        final boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uriScheme);
+        return httpClients.computeIfAbsent((ssl ? HTTPS_SCHEME : "http") + (useProxy ? "+proxy" : ""),
+                key -> createHttpClient(ssl, useProxy));
+    }
+
+    private HttpClient createHttpClient(boolean ssl, boolean useProxy) {
         final HttpClientOptions options = new HttpClientOptions()
                 .setSsl(ssl)
                 .setTrustAll(true)
-                .setMaxPoolSize(1)
-                .setKeepAlive(false)
-                .setTcpKeepAlive(false)
+                .setMaxPoolSize(httpClientMaxPoolSize)
+                .setKeepAlive(true)
+                .setTcpKeepAlive(true)
+                .setIdleTimeout(httpClientIdleTimeout)
                 .setConnectTimeout(httpClientTimeout);
-        
-        if ((useSystemProxy != null && useSystemProxy == Boolean.TRUE) || (useSystemProxy == null && this.isProxyConfigured)) {
+
+        if (ssl && http2Enabled) {
+            // HTTP/2 is negotiated through ALPN, HTTP/1.1 is used when the target does not support it. ALPN needs
+            // a JDK supporting it (9+, or 8u252+) or OpenSSL, this is why HTTP/2 has to be enabled explicitly
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true);
+        }
+
+        if (useProxy) {
             ProxyOptions proxyOptions = new ProxyOptions();
             proxyOptions.setType(ProxyType.valueOf(httpClientProxyType));
-            if (HTTPS_SCHEME.equals(uriScheme)) {
+            if (ssl) {
                 proxyOptions.setHost(httpClientProxyHttpsHost);
                 proxyOptions.setPort(httpClientProxyHttpsPort);
                 proxyOptions.setUsername(httpClientProxyHttpsUsername);
@@ -108,77 +136,98 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
             }
             options.setProxyOptions(proxyOptions);
         }
-        
+
         return vertx.createHttpClient(options);
     }
 
+    @Override
+    public void destroy() {
+        httpClients.values().forEach(httpClient -> {
+            try {
+                httpClient.close();
+            } catch (IllegalStateException ise) {
+                // Do not take care about exception when closing client
+            }
+        });
+        httpClients.clear();
+    }
+
     @Override
     public Buffer request(HttpMethod method, String uri, Map<String, String> headers, String body, Boolean useSystemProxy) {
         if (uri == null || uri.isEmpty()) {
             LOGGER.error("HttpClient configuration is empty");
             return null;
         }
-        
+
+        try {
+            return requestAsync(method, uri, headers, body, useSystemProxy).get();
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.error(e.getMessage(), e);
+            throw new TechnicalManagementException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Buffer> requestAsync(HttpMethod method, String uri, Map<String, String> headers, String body, Boolean useSystemProxy) {
         CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
+        if (uri == null || uri.isEmpty()) {
+            future.completeExceptionally(new TechnicalManagementException("HttpClient configuration is empty"));
+            return future;
+        }
+
         URI requestUri = URI.create(uri);
+        final boolean useProxy = (useSystemProxy != null && useSystemProxy == Boolean.TRUE) ||
+                (useSystemProxy == null && this.isProxyConfigured);
 
-        final HttpClient httpClient = this.getHttpClient(requestUri.getScheme(), useSystemProxy);
+        final HttpClient httpClient = this.getHttpClient(requestUri.getScheme(), useProxy);
 
         final int port = requestUri.getPort() != -1 ? requestUri.getPort() :
                 (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
 
-        HttpClientRequest request = httpClient.request(
-                io.vertx.core.http.HttpMethod.valueOf(method.name()),
-                port,
-                requestUri.getHost(),
-                requestUri.toString(),
-                response -> LOGGER.debug("Web response status code : {}", response.statusCode())
-        );
-        request.setTimeout(httpClientTimeout);
-
-        //headers
-        if(headers != null) {
-            headers.forEach(request::putHeader);
-        }
-        if(body != null) {
-            request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
-            request.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.getBytes().length));
-            request.write(body);
-        }
-        request.putHeader("X-Gravitee-Request-Id", UUID.toString(UUID.random()));
+        // Proxies expect the absolute URI, targets (and HTTP/2 in particular) expect the path only
+        final String requestPath = useProxy ? requestUri.toString() :
+                (requestUri.getRawPath() == null || requestUri.getRawPath().isEmpty() ? "/" : requestUri.getRawPath()) +
+                        (requestUri.getRawQuery() == null ? "" : "?" + requestUri.getRawQuery());
 
-        request.handler(response -> {
-            if (response.statusCode() == HttpStatusCode.OK_200) {
-                response.bodyHandler(buffer -> {
-                    future.complete(buffer);
+        try {
+            HttpClientRequest request = httpClient.request(
+                    io.vertx.core.http.HttpMethod.valueOf(method.name()),
+                    port,
+                    requestUri.getHost(),
+                    requestPath
+            );
+            request.setTimeout(httpClientTimeout);
+
+            //headers
+            if (headers != null) {
+                headers.forEach(request::putHeader);
+            }
+            request.putHeader("X-Gravitee-Request-Id", UUID.toString(UUID.random()));
 
-                    // Close client
-                    httpClient.close();
+            request.handler(response -> {
+                LOGGER.debug("Web response status code : {}", response.statusCode());
+                // The body is always read so that the connection goes back to the pool
+                response.bodyHandler(buffer -> {
+                    if (response.statusCode() == HttpStatusCode.OK_200) {
+                        future.complete(buffer);
+                    } else {
+                        future.completeExceptionally(new TechnicalManagementException(" Error on url '" + uri + "'. Status code: " + response.statusCode() + ". Message: " + response.statusMessage(), null));
+                    }
                 });
-            } else {
-                future.completeExceptionally(new TechnicalManagementException(" Error on url '" + uri + "'. Status code: " + response.statusCode() + ". Message: " + response.statusMessage(), null));
-            }
-        });
-        request.exceptionHandler(event -> {
-            try {
-                future.completeExceptionally(event);
+            });
+            request.exceptionHandler(future::completeExceptionally);
 
-                // Close client
-                httpClient.close();
-            } catch (IllegalStateException ise) {
-                // Do not take care about exception when closing client
+            if (body != null) {
+                request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+                request.end(body);
+            } else {
+                request.end();
             }
-        });
-
-        request.end();
-
-        try {
-            return future.get();
-        } catch (InterruptedException | ExecutionException e) {
-            LOGGER.error(e.getMessage(), e);
-            throw new TechnicalManagementException(e.getMessage(), e);
+        } catch (Exception ex) {
+            LOGGER.error("Unable to send a request to {}", uri, ex);
+            future.completeExceptionally(ex);
         }
-    }
-
 
+        return future;
+    }
 }
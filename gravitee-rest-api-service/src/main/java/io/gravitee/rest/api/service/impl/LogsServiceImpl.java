@@ -17,7 +17,6 @@ package io.gravitee.rest.api.service.impl;
 
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.analytics.query.LogQuery;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.log.*;
 import io.gravitee.rest.api.model.log.extended.Request;
 import io.gravitee.rest.api.model.log.extended.Response;
@@ -29,7 +28,10 @@ import io.gravitee.repository.analytics.query.*;
 import io.gravitee.repository.analytics.query.tabular.TabularResponse;
 import io.gravitee.repository.log.api.LogRepository;
 import io.gravitee.repository.log.model.ExtendedLog;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Application;
 import io.gravitee.repository.management.model.ApplicationStatus;
+import io.gravitee.repository.management.model.Plan;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.slf4j.Logger;
@@ -63,10 +65,6 @@ public class LogsServiceImpl implements LogsService {
     @Autowired
     private LogRepository logRepository;
     @Autowired
-    private ApiService apiService;
-    @Autowired
-    private ApplicationService applicationService;
-    @Autowired
     private PlanService planService;
     @Autowired
     private InstanceService instanceService;
@@ -78,6 +76,8 @@ public class LogsServiceImpl implements LogsService {
     private AuditService auditService;
     @Autowired
     private ParameterService parameterService;
+    @Autowired
+    private BatchMetadataResolver metadataResolver;
 
     @Override
     public SearchLogResponse findByApi(String api, LogQuery query) {
@@ -106,15 +106,20 @@ public class LogsServiceImpl implements LogsService {
             if (response.getSize() > 0) {
                 Map<String, Map<String, String>> metadata = new HashMap<>();
 
+                final BatchMetadataResolver.Batch batch = metadataResolver.newBatch();
+                logResponse.getLogs().forEach(logItem -> batch
+                        .application(logItem.getApplication())
+                        .plan(logItem.getPlan(), api));
+
                 logResponse.getLogs().forEach(logItem -> {
                     String application = logItem.getApplication();
                     String plan = logItem.getPlan();
 
                     if (application != null) {
-                        metadata.computeIfAbsent(application, getApplicationMetadata(application));
+                        metadata.computeIfAbsent(application, getApplicationMetadata(batch, application));
                     }
                     if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
+                        metadata.computeIfAbsent(plan, getPlanMetadata(batch, plan));
                     }
                 });
 
@@ -175,15 +180,20 @@ public class LogsServiceImpl implements LogsService {
             if (response.getSize() > 0) {
                 Map<String, Map<String, String>> metadata = new HashMap<>();
 
+                final BatchMetadataResolver.Batch batch = metadataResolver.newBatch();
+                logResponse.getLogs().forEach(logItem -> batch
+                        .api(logItem.getApi())
+                        .plan(logItem.getPlan(), logItem.getApi()));
+
                 logResponse.getLogs().forEach(logItem -> {
                     String api = logItem.getApi();
                     String plan = logItem.getPlan();
 
                     if (api != null) {
-                        metadata.computeIfAbsent(api, getAPIMetadata(api));
+                        metadata.computeIfAbsent(api, getAPIMetadata(batch, api));
                     }
                     if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
+                        metadata.computeIfAbsent(plan, getPlanMetadata(batch, plan));
                     }
                 });
 
@@ -210,15 +220,15 @@ public class LogsServiceImpl implements LogsService {
         }
     }
 
-    private Function<String, Map<String, String>> getAPIMetadata(String api) {
+    private Function<String, Map<String, String>> getAPIMetadata(BatchMetadataResolver.Batch batch, String api) {
         return s -> {
             Map<String, String> metadata = new HashMap<>();
 
-            try {
-                ApiEntity apiEntity = apiService.findById(api);
-                metadata.put("name", apiEntity.getName());
-                metadata.put("version", apiEntity.getVersion());
-            } catch (ApiNotFoundException anfe) {
+            Optional<Api> optApi = batch.getApi(api);
+            if (optApi.isPresent()) {
+                metadata.put("name", optApi.get().getName());
+                metadata.put("version", optApi.get().getVersion());
+            } else {
                 metadata.put("name", "Deleted API");
                 metadata.put("deleted", "true");
             }
@@ -227,17 +237,17 @@ public class LogsServiceImpl implements LogsService {
         };
     }
 
-    private Function<String, Map<String, String>> getApplicationMetadata(String application) {
+    private Function<String, Map<String, String>> getApplicationMetadata(BatchMetadataResolver.Batch batch, String application) {
         return s -> {
             Map<String, String> metadata = new HashMap<>();
 
-            try {
-                ApplicationEntity applicationEntity = applicationService.findById(application);
-                metadata.put("name", applicationEntity.getName());
-                if (ApplicationStatus.ARCHIVED.toString().equals(applicationEntity.getStatus())) {
+            Optional<Application> optApplication = batch.getApplication(application);
+            if (optApplication.isPresent()) {
+                metadata.put("name", optApplication.get().getName());
+                if (ApplicationStatus.ARCHIVED.equals(optApplication.get().getStatus())) {
                     metadata.put("deleted", "true");
                 }
-            } catch (ApplicationNotFoundException anfe) {
+            } else {
                 metadata.put("deleted", "true");
                 if (application.equals(APPLICATION_KEYLESS)) {
                     metadata.put("name", "Unknown application (keyless)");
@@ -250,14 +260,14 @@ public class LogsServiceImpl implements LogsService {
         };
     }
 
-    private Function<String, Map<String, String>> getPlanMetadata(String plan) {
+    private Function<String, Map<String, String>> getPlanMetadata(BatchMetadataResolver.Batch batch, String plan) {
         return s -> {
             Map<String, String> metadata = new HashMap<>();
 
-            try {
-                PlanEntity planEntity = planService.findById(plan);
-                metadata.put("name", planEntity.getName());
-            } catch (PlanNotFoundException anfe) {
+            Optional<Plan> optPlan = batch.getPlan(plan);
+            if (optPlan.isPresent()) {
+                metadata.put("name", optPlan.get().getName());
+            } else {
                 metadata.put("deleted", "true");
             }
 
@@ -462,12 +472,15 @@ public class LogsServiceImpl implements LogsService {
         String plan = log.getPlan();
         String gateway = log.getGateway();
 
+        final BatchMetadataResolver.Batch batch = metadataResolver.newBatch()
+                .application(application)
+                .plan(plan, log.getApi());
 
         if (application != null) {
-            metadata.computeIfAbsent(application, getApplicationMetadata(application));
+            metadata.computeIfAbsent(application, getApplicationMetadata(batch, application));
         }
         if (plan != null) {
-            metadata.computeIfAbsent(plan, getPlanMetadata(plan));
+            metadata.computeIfAbsent(plan, getPlanMetadata(batch, plan));
         }
         if (gateway != null) {
             metadata.computeIfAbsent(gateway, getGatewayMetadata(gateway));
@@ -531,11 +544,15 @@ public class LogsServiceImpl implements LogsService {
         String plan = log.getPlan();
         String gateway = log.getGateway();
 
+        final BatchMetadataResolver.Batch batch = metadataResolver.newBatch()
+                .api(api)
+                .plan(plan, api);
+
         if (api != null) {
-            metadata.computeIfAbsent(api, getAPIMetadata(api));
+            metadata.computeIfAbsent(api, getAPIMetadata(batch, api));
         }
         if (plan != null) {
-            metadata.computeIfAbsent(plan, getPlanMetadata(plan));
+            metadata.computeIfAbsent(plan, getPlanMetadata(batch, plan));
         }
         if (gateway != null) {
             metadata.computeIfAbsent(gateway, getGatewayMetadata(gateway));
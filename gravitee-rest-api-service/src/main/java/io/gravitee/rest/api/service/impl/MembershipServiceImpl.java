@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.ApplicationRepository;
@@ -33,6 +34,7 @@ import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.model.providers.User;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.builder.EmailNotificationBuilder;
+import io.gravitee.rest.api.service.event.ApiVisibilityEvent;
 import io.gravitee.rest.api.service.exceptions.*;
 import io.gravitee.rest.api.service.notification.NotificationParamsBuilder;
 
@@ -85,6 +87,8 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     private NotifierService notifierService;
     @Autowired
     private InvitationService invitationService;
+    @Autowired
+    private EventManager eventManager;
 
     @Override
     public Set<MemberEntity> getMembers(MembershipReferenceType referenceType, String referenceId, RoleScope roleScope) {
@@ -276,6 +280,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 updatedMembership.setUpdatedAt(updateDate);
                 returnedMembership = membershipRepository.update(optionalMembership.get());
                 createAuditLog(MEMBERSHIP_UPDATED, updatedMembership.getUpdatedAt(), previousMembership, updatedMembership);
+                notifyApiVisibilityChange(reference.getType(), userEntity.getId());
             } else {
                 Membership membership = new Membership(userEntity.getId(), reference.getId(), reference.getType());
                 membership.setRoles(singletonMap(role.getScope().getId(), role.getName()));
@@ -283,6 +288,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 membership.setUpdatedAt(updateDate);
                 returnedMembership = membershipRepository.create(membership);
                 createAuditLog(MEMBERSHIP_CREATED, membership.getCreatedAt(), null, membership);
+                notifyApiVisibilityChange(reference.getType(), userEntity.getId());
                 if (userEntity.getEmail() != null && !userEntity.getEmail().isEmpty()) {
                     EmailNotification emailNotification = buildEmailNotification(userEntity, reference.getType(), reference.getId());
                     if (emailNotification != null) {
@@ -319,6 +325,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             Membership membership = new Membership(userId, referenceId, referenceType);
             membershipRepository.delete(membership);
             createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
+            notifyApiVisibilityChange(referenceType, userId);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete member {} for {} {}", userId, referenceType, referenceId, ex);
             throw new TechnicalManagementException("An error occurs while trying to delete member " + userId + " for " + referenceType + " " + referenceId, ex);
@@ -396,6 +403,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 } else {
                     membershipRepository.update(membership);
                     createAuditLog(MEMBERSHIP_UPDATED, membership.getUpdatedAt(), previousMembership, membership);
+                    notifyApiVisibilityChange(referenceType, userId);
                     return true;
                 }
             }
@@ -426,6 +434,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             for(Membership membership : membershipRepository.findByUser(userId)) {
                 membershipRepository.delete(membership);
             }
+            eventManager.publishEvent(ApiVisibilityEvent.MEMBERSHIP, userId);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove user {}", userId, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove user " + userId, ex);
@@ -648,6 +657,12 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
+    private void notifyApiVisibilityChange(MembershipReferenceType referenceType, String userId) {
+        if (API.equals(referenceType) || GROUP.equals(referenceType)) {
+            eventManager.publishEvent(ApiVisibilityEvent.MEMBERSHIP, userId);
+        }
+    }
+
     private void createAuditLog(Audit.AuditEvent event, Date date, Membership oldValue, Membership newValue) {
         MembershipReferenceType referenceType = oldValue != null ? oldValue.getReferenceType() : newValue.getReferenceType();
         String referenceId = oldValue != null ? oldValue.getReferenceId() : newValue.getReferenceId();
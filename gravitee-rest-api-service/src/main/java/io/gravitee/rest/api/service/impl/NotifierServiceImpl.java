@@ -51,6 +51,8 @@ import java.net.URL;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static io.gravitee.rest.api.service.spring.AsyncConfiguration.NOTIFIER_EXECUTOR;
+
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
  * @author GraviteeSource Team
@@ -96,21 +98,21 @@ public class NotifierServiceImpl extends AbstractService implements NotifierServ
     WebhookNotifierService webhookNotifierService;
 
     @Override
-    @Async
+    @Async(NOTIFIER_EXECUTOR)
     public void trigger(final ApiHook hook, final String apiId, Map<String, Object> params) {
         triggerPortalNotifications(hook, NotificationReferenceType.API, apiId, params);
         triggerGenericNotifications(hook, NotificationReferenceType.API, apiId, params);
     }
 
     @Override
-    @Async
+    @Async(NOTIFIER_EXECUTOR)
     public void trigger(final ApplicationHook hook, final String applicationId, Map<String, Object> params) {
         triggerPortalNotifications(hook, NotificationReferenceType.APPLICATION, applicationId, params);
         triggerGenericNotifications(hook, NotificationReferenceType.APPLICATION, applicationId, params);
     }
 
     @Override
-    @Async
+    @Async(NOTIFIER_EXECUTOR)
     public void trigger(final PortalHook hook, Map<String, Object> params) {
         triggerPortalNotifications(hook, NotificationReferenceType.PORTAL, PortalNotificationDefaultReferenceId.DEFAULT.name(), params);
         triggerGenericNotifications(hook, NotificationReferenceType.PORTAL, PortalNotificationDefaultReferenceId.DEFAULT.name(), params);
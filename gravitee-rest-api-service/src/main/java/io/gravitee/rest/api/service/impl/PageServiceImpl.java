@@ -16,8 +16,10 @@
 package io.gravitee.rest.api.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.gson.Gson;
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.gravitee.common.http.MediaType;
@@ -50,7 +52,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
@@ -59,6 +63,8 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.PAGE;
@@ -74,7 +80,7 @@ import static org.springframework.ui.freemarker.FreeMarkerTemplateUtils.processT
  * @author GraviteeSource Team
  */
 @Component
-public class PageServiceImpl extends TransactionalService implements PageService, ApplicationContextAware {
+public class PageServiceImpl extends TransactionalService implements PageService, ApplicationContextAware, InitializingBean {
 
 	private static final Gson gson = new Gson();
 
@@ -91,7 +97,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 	@Autowired
 	private FetcherConfigurationFactory fetcherConfigurationFactory;
 	@Autowired
-	private Configuration freemarkerConfiguration;
+	private TemplateService templateService;
 	@Autowired
 	private ApplicationContext applicationContext;
 	@Autowired
@@ -108,6 +114,15 @@ public class PageServiceImpl extends TransactionalService implements PageService
 	@Autowired
 	private GraviteeDescriptorService graviteeDescriptorService;
 
+	@Value("${templates.api.cache.ttl:5}")
+	private long apiModelCacheTtl = 5;
+
+	/**
+	 * API models used to render templated pages, kept for a short time as a documentation is usually browsed page
+	 * after page.
+	 */
+	private Cache<String, ApiModelEntity> apiModels;
+
 	@Override
 	public PageEntity findById(String pageId) {
 		try {
@@ -165,21 +180,8 @@ public class PageServiceImpl extends TransactionalService implements PageService
 	public void transformWithTemplate(final PageEntity pageEntity, final String api) {
 		if (pageEntity.getContent() != null) {
 			try {
-				final Template template = new Template(pageEntity.getId(), pageEntity.getContent(), freemarkerConfiguration);
-				final Map<String, Object> model = new HashMap<>();
-				if (api == null) {
-					final List<MetadataEntity> metadataList = metadataService.findAllDefault();
-					if (metadataList != null) {
-						final Map<String, String> mapMetadata = new HashMap<>(metadataList.size());
-						metadataList.forEach(metadata -> mapMetadata.put(metadata.getKey(), metadata.getValue()));
-						model.put("metadata", mapMetadata);
-					}
-				} else {
-					ApiModelEntity apiEntity = apiService.findByIdForTemplates(api);
-					model.put("api", apiEntity);
-				}
-
-				final String content = processTemplateIntoString(template, model);
+				final Template template = templateService.getTemplate(pageEntity.getId(), pageEntity.getContent());
+				final String content = processTemplateIntoString(template, getTemplateModel(api));
 
 				pageEntity.setContent(content);
 			} catch (IOException | TemplateException ex) {
@@ -188,6 +190,42 @@ public class PageServiceImpl extends TransactionalService implements PageService
 		}
 	}
 
+	private Map<String, Object> getTemplateModel(final String api) {
+		final Map<String, Object> model = new HashMap<>();
+		if (api == null) {
+			final List<MetadataEntity> metadataList = metadataService.findAllDefault();
+			if (metadataList != null) {
+				final Map<String, String> mapMetadata = new HashMap<>(metadataList.size());
+				metadataList.forEach(metadata -> mapMetadata.put(metadata.getKey(), metadata.getValue()));
+				model.put("metadata", mapMetadata);
+			}
+		} else {
+			model.put("api", getApiModel(api));
+		}
+		return model;
+	}
+
+	private ApiModelEntity getApiModel(final String api) {
+		try {
+			return apiModels.get(GraviteeContext.getCurrentEnvironment() + '|' + api,
+					() -> apiService.findByIdForTemplates(api));
+		} catch (ExecutionException | UncheckedExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new TechnicalManagementException("An error occurs while trying to load API " + api + " for templates", ex);
+		}
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		apiModels = CacheBuilder
+				.newBuilder()
+				.expireAfterWrite(apiModelCacheTtl, TimeUnit.SECONDS)
+				.maximumSize(1000)
+				.build();
+	}
+
 	@Override
 	public PageEntity createPage(String apiId, NewPageEntity newPageEntity) {
 		try {
@@ -311,6 +349,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			page.setReferenceType(pageToUpdate.getReferenceType());
 
 			onlyOneHomepage(page);
+			swaggerService.evict(pageId);
 			// if order change, reorder all pages
 			if (page.getOrder() != pageToUpdate.getOrder()) {
 				reorderAndSavePages(page);
@@ -755,6 +794,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			}
 
 			pageRepository.delete(pageId);
+			swaggerService.evict(pageId);
             createAuditLog(page.getReferenceId(), PAGE_DELETED, new Date(), page, null);
 
             // remove from search engine
@@ -836,6 +876,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			page.setLastContributor(contributor);
 
 			Page updatedPage = pageRepository.update(page);
+			swaggerService.evict(pageId);
 			createAuditLog(page.getReferenceId(), PAGE_UPDATED, page.getUpdatedAt(), page, page);
 			return convert(updatedPage);
 		} catch (TechnicalException ex) {
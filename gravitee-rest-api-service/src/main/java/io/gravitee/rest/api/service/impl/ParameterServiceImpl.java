@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ParameterRepository;
 import io.gravitee.repository.management.model.Parameter;
@@ -24,6 +25,7 @@ import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.ParameterService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,11 +58,14 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
 
     private static final String SEPARATOR = ";";
     public static final String KV_SEPARATOR = "@";
+    private static final String PARAMETERS_CACHE = "parameters";
 
     @Inject
     private ParameterRepository parameterRepository;
     @Inject
     private AuditService auditService;
+    @Inject
+    private ClusteredCacheManager cacheManager;
 
     @Override
     public String find(final Key key) {
@@ -102,9 +107,15 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
     @Override
     public <T> List<T> findAll(final Key key, final Function<String, T> mapper, final Predicate<String> filter) {
         try {
-            final Optional<Parameter> optionalParameter = parameterRepository.findById(key.key());
-            if (optionalParameter.isPresent()) {
-                return splitValue(optionalParameter.get().getValue(), mapper, filter);
+            final Cache<String, Optional<String>> cache = cacheManager.getCache(PARAMETERS_CACHE);
+            final String cacheKey = cacheKey(GraviteeContext.getCurrentEnvironment(), key.key());
+            Optional<String> value = cache.getIfPresent(cacheKey);
+            if (value == null) {
+                value = parameterRepository.findById(key.key()).map(this::getValue);
+                cache.put(cacheKey, value);
+            }
+            if (value.isPresent()) {
+                return splitValue(value.get(), mapper, filter);
             }
             return emptyList();
         } catch (final TechnicalException ex) {
@@ -117,15 +128,35 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
     @Override
     public <T> Map<String, List<T>> findAll(List<Key> keys, Function<String, T> mapper, Predicate<String> filter) {
         try {
-            List<Parameter> parameters = parameterRepository.findAllByReferenceIdAndReferenceType(
-                    keys.stream().map(Key::key).collect(toList()), 
-                    GraviteeContext.getCurrentEnvironment(), 
-                    ParameterReferenceType.ENVIRONMENT);
-            if (parameters.isEmpty()) {
-                return emptyMap();
+            final String environment = GraviteeContext.getCurrentEnvironment();
+            final Cache<String, Optional<String>> cache = cacheManager.getCache(PARAMETERS_CACHE);
+
+            final Map<String, Optional<String>> values = new HashMap<>();
+            final List<String> missingKeys = new ArrayList<>();
+            for (Key key : keys) {
+                Optional<String> value = cache.getIfPresent(cacheKey(environment, key.key()));
+                if (value == null) {
+                    missingKeys.add(key.key());
+                } else {
+                    values.put(key.key(), value);
+                }
+            }
+
+            if (!missingKeys.isEmpty()) {
+                List<Parameter> parameters = parameterRepository.findAllByReferenceIdAndReferenceType(
+                        missingKeys,
+                        environment,
+                        ParameterReferenceType.ENVIRONMENT);
+                missingKeys.forEach(key -> values.put(key, Optional.empty()));
+                parameters.forEach(p -> values.put(p.getKey(), Optional.of(getValue(p))));
+                missingKeys.forEach(key -> cache.put(cacheKey(environment, key), values.get(key)));
             }
+
             Map<String, List<T>> result = new HashMap<>();
-            parameters.forEach( p -> result.put(p.getKey(), splitValue(p.getValue(), mapper, filter)) );
+            values.forEach((key, value) -> value.ifPresent(v -> result.put(key, splitValue(v, mapper, filter))));
+            if (result.isEmpty()) {
+                return emptyMap();
+            }
             return result;
         } catch (final TechnicalException ex) {
             final String message = "An error occurs while trying to find parameter values with keys: " + keys;
@@ -134,6 +165,20 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
         }
     }
 
+    /**
+     * Single and bulk lookups share the same entries, keyed by environment and parameter key.
+     */
+    private String cacheKey(final String environment, final String key) {
+        return environment + ':' + key;
+    }
+
+    /**
+     * A parameter without value is cached as an empty value, so that it is still told apart from a missing parameter.
+     */
+    private String getValue(final Parameter parameter) {
+        return parameter.getValue() == null ? "" : parameter.getValue();
+    }
+
     private <T> List<T> splitValue(final String value, final Function<String, T> mapper, final Predicate<String> filter) {
         if (value == null || value.isEmpty()) {
             return emptyList();
@@ -161,9 +206,11 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
             if (updateMode) {
                 if (value == null) {
                     parameterRepository.delete(key.key());
+                    cacheManager.invalidate(PARAMETERS_CACHE);
                     return null;
                 } else if (!value.equals(optionalParameter.get().getValue())) {
                     final Parameter updatedParameter = parameterRepository.update(parameter);
+                    cacheManager.invalidate(PARAMETERS_CACHE);
                     auditService.createPortalAuditLog(
                             singletonMap(PARAMETER, updatedParameter.getKey()),
                             PARAMETER_UPDATED,
@@ -179,6 +226,7 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
                     return null;
                 }
                 final Parameter savedParameter = parameterRepository.create(parameter);
+                cacheManager.invalidate(PARAMETERS_CACHE);
                 auditService.createPortalAuditLog(
                         singletonMap(PARAMETER, savedParameter.getKey()),
                         PARAMETER_CREATED,
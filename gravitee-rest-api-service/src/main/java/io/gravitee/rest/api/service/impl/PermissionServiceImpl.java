@@ -15,6 +15,13 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipDefaultReferenceId;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.rest.api.model.RoleEntity;
@@ -22,21 +29,30 @@ import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.exceptions.ApiNotFoundException;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 /**
+ * When a permission context has been opened on the current thread, the memberships of the authenticated user are
+ * loaded once and the groups of the APIs and applications are resolved with one query per kind of reference, so
+ * that checking the permissions on a whole list of APIs does not query the repositories for each API.
+ *
  * @author Nicolas GERAUD(nicolas.geraud at graviteesource.com)
  * @author GraviteeSource Team
  */
 @Component
 public class PermissionServiceImpl extends AbstractService implements PermissionService {
 
+    private final Logger LOGGER = LoggerFactory.getLogger(PermissionServiceImpl.class);
+
+    private static final ThreadLocal<PermissionContext> CONTEXT = new ThreadLocal<>();
+
     @Autowired
     MembershipService membershipService;
 
@@ -49,6 +65,25 @@ public class PermissionServiceImpl extends AbstractService implements Permission
     @Autowired
     RoleService roleService;
 
+    @Autowired
+    MembershipRepository membershipRepository;
+
+    @Autowired
+    ApiRepository apiRepository;
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
+    @Override
+    public void initContext() {
+        CONTEXT.set(new PermissionContext());
+    }
+
+    @Override
+    public void clearContext() {
+        CONTEXT.remove();
+    }
+
     @Override
     public boolean hasPermission(RolePermission permission, String referenceId, RolePermissionAction... acls) {
         Optional<String> optionalReferenceId = Optional.ofNullable(referenceId);
@@ -78,20 +113,28 @@ public class PermissionServiceImpl extends AbstractService implements Permission
                 membershipReferenceType = null;
                 repoRoleScope = null;
         }
-        Set<RoleEntity> roles = Collections.emptySet();
-        RoleEntity firstDegreeRole = membershipService.getRole(membershipReferenceType, optionalReferenceId.orElse(MembershipDefaultReferenceId.DEFAULT.name()), getAuthenticatedUsername(), repoRoleScope);
-        if (firstDegreeRole != null) {
-            roles = Collections.singleton(firstDegreeRole);
-        } else if (groupMembershipReferenceType != null) {
-            Set<String> groups;
-            try {
-                groups = apiService.findById(referenceId).getGroups();
-            } catch (ApiNotFoundException | IllegalArgumentException ane) {
-                groups = applicationService.findById(referenceId).getGroups();
-            }
 
-            if (groups != null && !groups.isEmpty()) {
-                roles = membershipService.getRoles(groupMembershipReferenceType, groups, getAuthenticatedUsername(), repoRoleScope);
+        Set<RoleEntity> roles;
+        final PermissionContext context = getContext();
+        if (context != null && repoRoleScope != null) {
+            roles = getRoles(context, membershipReferenceType, groupMembershipReferenceType,
+                    optionalReferenceId.orElse(MembershipDefaultReferenceId.DEFAULT.name()), repoRoleScope);
+        } else {
+            roles = Collections.emptySet();
+            RoleEntity firstDegreeRole = membershipService.getRole(membershipReferenceType, optionalReferenceId.orElse(MembershipDefaultReferenceId.DEFAULT.name()), getAuthenticatedUsername(), repoRoleScope);
+            if (firstDegreeRole != null) {
+                roles = Collections.singleton(firstDegreeRole);
+            } else if (groupMembershipReferenceType != null) {
+                Set<String> groups;
+                try {
+                    groups = apiService.findById(referenceId).getGroups();
+                } catch (ApiNotFoundException | IllegalArgumentException ane) {
+                    groups = applicationService.findById(referenceId).getGroups();
+                }
+
+                if (groups != null && !groups.isEmpty()) {
+                    roles = membershipService.getRoles(groupMembershipReferenceType, groups, getAuthenticatedUsername(), repoRoleScope);
+                }
             }
         }
         for (RoleEntity roleEntity : roles) {
@@ -101,4 +144,126 @@ public class PermissionServiceImpl extends AbstractService implements Permission
         }
         return false;
     }
+
+    /**
+     * @return the context of the current thread, loaded for the authenticated user, or <code>null</code> if no
+     * context has been opened or if the user is anonymous.
+     */
+    private PermissionContext getContext() {
+        final PermissionContext context = CONTEXT.get();
+        final String username = getAuthenticatedUsername();
+        if (context == null || username == null) {
+            return null;
+        }
+        if (!username.equals(context.username)) {
+            try {
+                context.load(username, membershipRepository.findByUser(username));
+            } catch (TechnicalException ex) {
+                LOGGER.error("An error occurs while trying to get memberships of user {}", username, ex);
+                throw new TechnicalManagementException("An error occurs while trying to get memberships of user " + username, ex);
+            }
+        }
+        return context;
+    }
+
+    private Set<RoleEntity> getRoles(PermissionContext context, MembershipReferenceType membershipReferenceType,
+                                     MembershipReferenceType groupMembershipReferenceType, String referenceId,
+                                     io.gravitee.repository.management.model.RoleScope roleScope) {
+        RoleEntity firstDegreeRole = getRole(context, membershipReferenceType, referenceId, roleScope);
+        if (firstDegreeRole != null) {
+            return Collections.singleton(firstDegreeRole);
+        }
+        if (groupMembershipReferenceType == null || context.groups.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> groups = roleScope == io.gravitee.repository.management.model.RoleScope.API ?
+                getApiGroups(context).get(referenceId) : getApplicationGroups(context).get(referenceId);
+        if (groups == null) {
+            return Collections.emptySet();
+        }
+        Set<RoleEntity> roles = new HashSet<>();
+        for (String group : groups) {
+            RoleEntity role = getRole(context, groupMembershipReferenceType, group, roleScope);
+            if (role != null) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
+    private RoleEntity getRole(PermissionContext context, MembershipReferenceType referenceType, String referenceId,
+                               io.gravitee.repository.management.model.RoleScope roleScope) {
+        final Membership membership = context.memberships.get(key(referenceType, referenceId));
+        if (membership == null || membership.getRoles() == null) {
+            return null;
+        }
+        final String roleName = membership.getRoles().get(roleScope.getId());
+        if (roleName == null) {
+            return null;
+        }
+        return context.roles.computeIfAbsent(roleScope.name() + ':' + roleName, key -> roleService.findById(roleScope, roleName));
+    }
+
+    /**
+     * The groups of every API shared with one of the groups of the user, loaded with a single query.
+     */
+    private Map<String, Set<String>> getApiGroups(PermissionContext context) {
+        if (context.apiGroups == null) {
+            context.apiGroups = new HashMap<>();
+            apiRepository.search(new ApiCriteria.Builder().groups(context.groups.toArray(new String[0])).build(),
+                    new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build())
+                    .forEach(api -> context.apiGroups.put(api.getId(), api.getGroups()));
+        }
+        return context.apiGroups;
+    }
+
+    /**
+     * The groups of every application shared with one of the groups of the user, loaded with a single query.
+     */
+    private Map<String, Set<String>> getApplicationGroups(PermissionContext context) {
+        if (context.applicationGroups == null) {
+            try {
+                final Map<String, Set<String>> applicationGroups = new HashMap<>();
+                applicationRepository.findByGroups(new ArrayList<>(context.groups))
+                        .forEach(application -> applicationGroups.put(application.getId(), application.getGroups()));
+                context.applicationGroups = applicationGroups;
+            } catch (TechnicalException ex) {
+                LOGGER.error("An error occurs while trying to find applications by groups {}", context.groups, ex);
+                throw new TechnicalManagementException("An error occurs while trying to find applications by groups " + context.groups, ex);
+            }
+        }
+        return context.applicationGroups;
+    }
+
+    private static String key(MembershipReferenceType referenceType, String referenceId) {
+        return referenceType.name() + ':' + referenceId;
+    }
+
+    private static class PermissionContext {
+        private String username;
+        private final Map<String, Membership> memberships = new HashMap<>();
+        private final Set<String> groups = new HashSet<>();
+        private final Map<String, RoleEntity> roles = new HashMap<>();
+        private Map<String, Set<String>> apiGroups;
+        private Map<String, Set<String>> applicationGroups;
+
+        private void load(String username, Collection<Membership> userMemberships) {
+            this.username = username;
+            memberships.clear();
+            groups.clear();
+            roles.clear();
+            apiGroups = null;
+            applicationGroups = null;
+
+            if (userMemberships != null) {
+                for (Membership membership : userMemberships) {
+                    memberships.put(key(membership.getReferenceType(), membership.getReferenceId()), membership);
+                    if (membership.getReferenceType() == MembershipReferenceType.GROUP) {
+                        groups.add(membership.getReferenceId());
+                    }
+                }
+            }
+        }
+    }
 }
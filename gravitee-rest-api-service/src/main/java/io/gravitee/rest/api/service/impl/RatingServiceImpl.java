@@ -15,6 +15,9 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.rest.api.model.*;
@@ -37,13 +40,15 @@ import io.gravitee.repository.management.model.RatingReferenceType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
-import java.util.List;
-import java.util.Optional;
-import java.util.OptionalDouble;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.reverseOrder;
@@ -51,11 +56,15 @@ import static java.util.stream.Collectors.*;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
+ * Rating summaries are computed once per API from its ratings, and dropped with each rating created, updated or
+ * deleted on this node. As ratings given on other nodes are not notified, summaries also expire after a configurable
+ * delay.
+ *
  * @author Azize ELAMRANI (azize at graviteesource.com)
  * @author GraviteeSource Team
  */
 @Component
-public class RatingServiceImpl extends AbstractService implements RatingService {
+public class RatingServiceImpl extends AbstractService implements RatingService, InitializingBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RatingServiceImpl.class);
 
@@ -79,6 +88,16 @@ public class RatingServiceImpl extends AbstractService implements RatingService
     @Autowired
     private ApiService apiService;
 
+    @Value("${ratings.summary.cache.ttl:300}")
+    private long summaryCacheTtl = 300;
+
+    @Value("${ratings.summary.cache.size:10000}")
+    private long summaryCacheSize = 10000;
+
+    private Cache<String, RatingAggregate> aggregates;
+
+    private final AtomicLong writeCount = new AtomicLong();
+
     @Override
     public RatingEntity create(final NewRatingEntity ratingEntity) {
         if (!isEnabled()) {
@@ -90,6 +109,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
                 throw new RatingAlreadyExistsException(ratingEntity.getApi(), getAuthenticatedUsername());
             }
             Rating rating = ratingRepository.create(convert(ratingEntity));
+            invalidateAggregate(rating.getReferenceId());
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_CREATED, rating.getCreatedAt(), null, rating);
 
             notifierService.trigger(
@@ -160,21 +180,84 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         if (!isEnabled()) {
             throw new ApiRatingUnavailableException();
         }
+        return getAggregate(api).toSummary(api);
+    }
+
+    @Override
+    public Map<String, RatingSummaryEntity> findSummariesByApis(final Collection<String> apis) {
+        if (!isEnabled()) {
+            throw new ApiRatingUnavailableException();
+        }
+        final Map<String, RatingAggregate> found = new HashMap<>(aggregates.getAllPresent(apis));
+        final Set<String> missingApis = apis.stream().filter(api -> !found.containsKey(api)).collect(toSet());
+        if (!missingApis.isEmpty()) {
+            found.putAll(loadAggregates(missingApis));
+        }
+
+        final Map<String, RatingSummaryEntity> summaries = new HashMap<>(found.size());
+        found.forEach((api, aggregate) -> summaries.put(api, aggregate.toSummary(api)));
+        return summaries;
+    }
+
+    private RatingAggregate getAggregate(final String api) {
         try {
-            final List<Rating> ratings = ratingRepository.findByReferenceIdAndReferenceType(api, RatingReferenceType.API);
-            final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
-            ratingSummary.setApi(api);
-            ratingSummary.setNumberOfRatings(ratings.size());
-            final OptionalDouble optionalAvg = ratings.stream().mapToInt(Rating::getRate).average();
-            if (optionalAvg.isPresent()) {
-                ratingSummary.setAverageRate(optionalAvg.getAsDouble());
+            return aggregates.get(api, () -> aggregate(findRatings(api)));
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            LOGGER.error("An error occurred while trying to find summary rating for api {}", api, ex.getCause());
+            throw new TechnicalManagementException("An error occurred while trying to find summary rating for api " + api, ex.getCause());
+        }
+    }
+
+    /**
+     * Compute the summaries of the given APIs in one pass. They are cached only if no rating has been written in the
+     * meantime, otherwise a summary could miss the latest rating until it expires.
+     */
+    private Map<String, RatingAggregate> loadAggregates(final Set<String> apis) {
+        final long generation = writeCount.get();
+        final Map<String, RatingAggregate> loaded = new HashMap<>(apis.size());
+        for (String api : apis) {
+            try {
+                // The rating repository can only be queried by reference, one API at a time
+                loaded.put(api, aggregate(findRatings(api)));
+            } catch (TechnicalException ex) {
+                LOGGER.error("An error occurred while trying to find summary rating for api {}", api, ex);
+                throw new TechnicalManagementException("An error occurred while trying to find summary rating for api " + api, ex);
             }
-            ratingSummary.setNumberOfRatingsByRate(ratings.stream().collect(groupingBy(Rating::getRate, counting())));
-            return ratingSummary;
-        } catch (TechnicalException ex) {
-            LOGGER.error("An error occurred while trying to find summary rating for api {}", api, ex);
-            throw new TechnicalManagementException("An error occurred while trying to find summary rating for api " + api, ex);
         }
+        if (writeCount.get() == generation) {
+            aggregates.putAll(loaded);
+        }
+        return loaded;
+    }
+
+    private List<Rating> findRatings(final String api) throws TechnicalException {
+        return ratingRepository.findByReferenceIdAndReferenceType(api, RatingReferenceType.API);
+    }
+
+    private RatingAggregate aggregate(final List<Rating> ratings) {
+        RatingAggregate aggregate = RatingAggregate.EMPTY;
+        for (Rating rating : ratings) {
+            aggregate = aggregate.add(rating.getRate());
+        }
+        return aggregate;
+    }
+
+    /**
+     * Drop the summary of an API once one of its ratings has been written: it is computed again from the ratings on
+     * the next read, so that a concurrent computation can not count the written rating twice.
+     */
+    private void invalidateAggregate(final String api) {
+        writeCount.incrementAndGet();
+        aggregates.invalidate(api);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        aggregates = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(summaryCacheTtl, TimeUnit.SECONDS)
+                .maximumSize(summaryCacheSize)
+                .build();
     }
 
     @Override
@@ -218,6 +301,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
                 rating.setComment(ratingEntity.getComment());
             }
             Rating updatedRating = ratingRepository.update(rating);
+            invalidateAggregate(rating.getReferenceId());
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_UPDATED, updatedRating.getUpdatedAt(), oldRating, updatedRating);
             return convert(updatedRating);
         } catch (TechnicalException ex) {
@@ -234,6 +318,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         try {
             Rating rating = findById(id);
             ratingRepository.delete(id);
+            invalidateAggregate(rating.getReferenceId());
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_DELETED, new Date(), rating, null);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete rating {}", id, ex);
@@ -334,4 +419,39 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         rating.setUpdatedAt(now);
         return rating;
     }
+
+    /**
+     * Number of ratings, sum of rates and number of ratings by rate of an API.
+     */
+    private static final class RatingAggregate {
+
+        private static final RatingAggregate EMPTY = new RatingAggregate(0, 0, Collections.emptyMap());
+
+        private final int count;
+        private final long sum;
+        private final Map<Byte, Long> histogram;
+
+        private RatingAggregate(int count, long sum, Map<Byte, Long> histogram) {
+            this.count = count;
+            this.sum = sum;
+            this.histogram = histogram;
+        }
+
+        private RatingAggregate add(byte rate) {
+            final Map<Byte, Long> newHistogram = new HashMap<>(histogram);
+            newHistogram.merge(rate, 1L, Long::sum);
+            return new RatingAggregate(count + 1, sum + rate, newHistogram);
+        }
+
+        private RatingSummaryEntity toSummary(String api) {
+            final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
+            ratingSummary.setApi(api);
+            ratingSummary.setNumberOfRatings(count);
+            if (count > 0) {
+                ratingSummary.setAverageRate((double) sum / count);
+            }
+            ratingSummary.setNumberOfRatingsByRate(new HashMap<>(histogram));
+            return ratingSummary;
+        }
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.Role;
@@ -29,11 +30,14 @@ import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -52,10 +56,12 @@ import static java.util.stream.Collectors.toList;
  * @author GraviteeSource Team
  */
 @Component
-public class RoleServiceImpl extends AbstractService implements RoleService {
+public class RoleServiceImpl extends AbstractService implements RoleService, InitializingBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(RoleServiceImpl.class);
 
+    private static final String ROLES_CACHE = "roles";
+
     @Autowired
     private RoleRepository roleRepository;
 
@@ -65,16 +71,44 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ClusteredCacheManager cacheManager;
+
+    @Value("${roles.cache.ttl:60}")
+    private long cacheTtl = 60;
+
+    @Value("${roles.cache.size:1000}")
+    private long cacheSize = 1000;
+
+    /**
+     * Roles resolved by {@link #findById(RoleScope, String)} are cached by scope and name: every check of a permission
+     * resolves the roles of the user. The whole cache is invalidated each time a role is written.
+     */
+    private Cache<String, RoleEntity> roles;
+
+    @Override
+    public void afterPropertiesSet() {
+        roles = cacheManager.getCache(ROLES_CACHE, cacheTtl, cacheSize);
+    }
+
     @Override
     public RoleEntity findById(final RoleScope scope, final String name) {
         try {
             LOGGER.debug("Find Role by id");
 
+            final String key = scope + ":" + name;
+            RoleEntity roleEntity = roles.getIfPresent(key);
+            if (roleEntity != null) {
+                return roleEntity;
+            }
+
             Optional<Role> role = roleRepository.findById(scope, name);
             if (!role.isPresent()) {
                 throw new RoleNotFoundException(scope, name);
             }
-            return convert(role.get());
+            roleEntity = convert(role.get());
+            roles.put(key, roleEntity);
+            return roleEntity;
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find a role : {} {}", scope, name,  ex);
             throw new TechnicalManagementException("An error occurs while trying to find a role : " + scope + " " + name, ex);
@@ -107,6 +141,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             role.setReferenceType(RoleReferenceType.ENVIRONMENT);
             
             RoleEntity entity = convert(roleRepository.create(role));
+            invalidateRoles();
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope() + ":" + role.getName()),
                     ROLE_CREATED,
@@ -143,6 +178,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
         Optional<Role> existingRole = roleRepository.findById(systemRole.getScope(), systemRole.getName());
         if (existingRole.isPresent() && permissionsAreDifferent(existingRole.get(), systemRole)) {
             roleRepository.update(systemRole);
+            invalidateRoles();
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, systemRole.getScope() + ":" + systemRole.getName()),
                     ROLE_UPDATED,
@@ -195,6 +231,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             Role updatedRole = convert(roleEntity);
             updatedRole.setCreatedAt(role.getCreatedAt());
             RoleEntity entity = convert(roleRepository.update(updatedRole));
+            invalidateRoles();
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
                     ROLE_UPDATED,
@@ -233,6 +270,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             membershipService.removeRoleUsage(scope, name, defaultRoleByScopes.get(0).getName());
 
             roleRepository.delete(scope, name);
+            invalidateRoles();
 
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
@@ -281,24 +319,55 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
         }
     }
 
+    /**
+     * The CRUD actions of the permission are compared as bitmasks: the permission is granted if one of the required
+     * actions is granted.
+     */
     @Override
     public boolean hasPermission(Map<String, char[]> userPermissions, Permission permission, RolePermissionAction[] acls) {
-        boolean hasPermission = false;
-        if (userPermissions != null) {
-            Iterator<Map.Entry<String, char[]>> it = userPermissions.entrySet().iterator();
-            while (it.hasNext() && !hasPermission) {
-                Map.Entry<String, char[]> entry = it.next();
-                if (permission.getName().equals(entry.getKey())) {
-                    String crud = Arrays.toString(entry.getValue());
-                    for (RolePermissionAction perm : acls) {
-                        if (crud.indexOf(perm.getId()) != -1) {
-                            hasPermission = true;
-                        }
-                    }
-                }
+        if (userPermissions == null || acls == null) {
+            return false;
+        }
+        final char[] crud = userPermissions.get(permission.getName());
+        if (crud == null) {
+            return false;
+        }
+        return (toMask(crud) & toMask(acls)) != 0;
+    }
+
+    private static int toMask(char[] crud) {
+        int mask = 0;
+        for (char action : crud) {
+            switch (action) {
+                case 'C':
+                    mask |= CREATE.getMask();
+                    break;
+                case 'R':
+                    mask |= READ.getMask();
+                    break;
+                case 'U':
+                    mask |= UPDATE.getMask();
+                    break;
+                case 'D':
+                    mask |= DELETE.getMask();
+                    break;
+                default:
+                    break;
             }
         }
-        return hasPermission;
+        return mask;
+    }
+
+    private static int toMask(RolePermissionAction[] acls) {
+        int mask = 0;
+        for (RolePermissionAction acl : acls) {
+            mask |= acl.getMask();
+        }
+        return mask;
+    }
+
+    private void invalidateRoles() {
+        cacheManager.invalidate(ROLES_CACHE);
     }
 
     private void toggleDefaultRole(RoleScope scope, String newDefaultRoleName) throws TechnicalException {
@@ -312,6 +381,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
                 role.setDefaultRole(false);
                 role.setUpdatedAt(new Date());
                 roleRepository.update(role);
+                invalidateRoles();
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
                         ROLE_UPDATED,
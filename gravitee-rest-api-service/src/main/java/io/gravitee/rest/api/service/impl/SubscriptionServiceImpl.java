@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.repository.management.model.ApplicationStatus;
@@ -39,11 +41,14 @@ import io.gravitee.repository.management.model.Subscription;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -60,7 +65,7 @@ import static java.util.stream.Collectors.toList;
  * @author GraviteeSource Team
  */
 @Component
-public class SubscriptionServiceImpl extends AbstractService implements SubscriptionService {
+public class SubscriptionServiceImpl extends AbstractService implements SubscriptionService, InitializingBean {
 
     /**
      * Logger.
@@ -92,6 +97,21 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     private NotifierService notifierService;
     @Autowired
     private GroupService groupService;
+    @Autowired
+    private BatchMetadataResolver metadataResolver;
+
+    @Value("${subscriptions.count.cache.ttl:60}")
+    private long countCacheTtl = 60;
+
+    @Value("${subscriptions.count.cache.size:10000}")
+    private long countCacheSize = 10000;
+
+    /**
+     * Number of subscriptions by API. The repository has no count aggregation, so counts are computed from the
+     * subscriptions themselves and kept until a subscription of the API is created or deleted on this node, or until
+     * they expire.
+     */
+    private Cache<String, Long> subscriptionCounts;
 
     @Override
     public SubscriptionEntity findById(String subscription) {
@@ -267,6 +287,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
             String apiId = planEntity.getApi();
             subscription.setApi(apiId);
             subscription = subscriptionRepository.create(subscription);
+            invalidateSubscriptionsCount(apiId);
 
             createAudit(apiId, application, SUBSCRIPTION_CREATED, subscription.getCreatedAt(), null, subscription);
 
@@ -687,6 +708,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
 
             // Delete subscription
             subscriptionRepository.delete(subscriptionId);
+            invalidateSubscriptionsCount(subscription.getApi());
             createAudit(
                     planService.findById(subscription.getPlan()).getApi(),
                     subscription.getApplication(),
@@ -736,6 +758,52 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
         }
     }
 
+    @Override
+    public Map<String, Long> countByApis(Collection<String> apis) {
+        final Map<String, Long> counts = new HashMap<>(subscriptionCounts.getAllPresent(apis));
+
+        final Set<String> missingApis = new HashSet<>(apis);
+        missingApis.removeAll(counts.keySet());
+        if (!missingApis.isEmpty()) {
+            try {
+                logger.debug("Count subscriptions of APIs {}", missingApis);
+
+                // Only the API of each subscription is read, subscriptions are not converted
+                final Map<String, Long> missingCounts = subscriptionRepository
+                        .search(new SubscriptionCriteria.Builder().apis(missingApis).build())
+                        .stream()
+                        .collect(Collectors.groupingBy(Subscription::getApi, Collectors.counting()));
+                missingApis.forEach(api -> {
+                    final Long count = missingCounts.getOrDefault(api, 0L);
+                    subscriptionCounts.put(api, count);
+                    counts.put(api, count);
+                });
+            } catch (TechnicalException ex) {
+                logger.error("An error occurs while trying to count subscriptions of APIs: {}", missingApis, ex);
+                throw new TechnicalManagementException(
+                        String.format("An error occurs while trying to count subscriptions of APIs: %s", missingApis), ex);
+            }
+        }
+
+        counts.values().removeIf(count -> count == 0L);
+        return counts;
+    }
+
+    private void invalidateSubscriptionsCount(String api) {
+        if (api != null) {
+            subscriptionCounts.invalidate(api);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscriptionCounts = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(countCacheTtl, TimeUnit.SECONDS)
+                .maximumSize(countCacheSize)
+                .build();
+    }
+
     @Override
     public Page<SubscriptionEntity> search(SubscriptionQuery query, Pageable pageable) {
         try {
@@ -905,21 +973,26 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     public Metadata getMetadata(List<SubscriptionEntity> subscriptions) {
         Metadata metadata = new Metadata();
 
+        final BatchMetadataResolver.Batch batch = metadataResolver.newBatch();
+        subscriptions.forEach(subscription -> batch
+                .application(subscription.getApplication())
+                .plan(subscription.getPlan(), subscription.getApi())
+                .api(subscription.getApi()));
+
         subscriptions.forEach( subscription -> {
             if (!metadata.containsKey(subscription.getApplication())) {
-                ApplicationEntity applicationEntity = applicationService.findById(subscription.getApplication());
-                metadata.put(subscription.getApplication(), "name", applicationEntity.getName());
+                batch.getApplication(subscription.getApplication()).ifPresent(application ->
+                        metadata.put(subscription.getApplication(), "name", application.getName()));
             }
 
-
             if (!metadata.containsKey(subscription.getPlan())) {
-                PlanEntity planEntity = planService.findById(subscription.getPlan());
-                metadata.put(subscription.getPlan(), "name", planEntity.getName());
+                batch.getPlan(subscription.getPlan()).ifPresent(plan ->
+                        metadata.put(subscription.getPlan(), "name", plan.getName()));
             }
 
             if (!metadata.containsKey(subscription.getApi())) {
-                ApiEntity api = apiService.findById(subscription.getApi());
-                metadata.put(subscription.getApi(), "name", api.getName());
+                batch.getApi(subscription.getApi()).ifPresent(api ->
+                        metadata.put(subscription.getApi(), "name", api.getName()));
             }
         });
 
@@ -17,6 +17,10 @@ package io.gravitee.rest.api.service.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.ImportSwaggerDescriptorEntity;
 import io.gravitee.rest.api.model.PageEntity;
@@ -26,6 +30,7 @@ import io.gravitee.rest.api.model.api.SwaggerPath;
 import io.gravitee.rest.api.model.api.SwaggerVerb;
 import io.gravitee.rest.api.service.SwaggerService;
 import io.gravitee.rest.api.service.exceptions.SwaggerDescriptorException;
+import io.gravitee.rest.api.service.impl.swagger.SwaggerDescriptorVersion;
 import io.swagger.models.*;
 import io.swagger.models.properties.ObjectProperty;
 import io.swagger.models.properties.Property;
@@ -53,6 +58,7 @@ import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -64,6 +70,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.Map.Entry;
@@ -83,15 +90,22 @@ import static java.util.stream.Collectors.toMap;
  * @author GraviteeSource Team
  */
 @Component
-public class SwaggerServiceImpl implements SwaggerService {
+public class SwaggerServiceImpl implements SwaggerService, InitializingBean {
 
     private final Logger logger = LoggerFactory.getLogger(SwaggerServiceImpl.class);
 
     @Value("${swagger.scheme:https}")
     private String defaultScheme;
+    @Value("${swagger.cache.maxSize:20000000}")
+    private long cacheMaxSize = 20_000_000;
     @Inject
     private ObjectMapper mapper;
 
+    /**
+     * Transformed documents by page ID, weighted by their length in characters.
+     */
+    private Cache<String, TransformedDocument> transformedDocuments;
+
     static {
         System.setProperty(String.format("%s.trustAll", RemoteUrl.class.getName()), Boolean.TRUE.toString());
         System.setProperty(String.format("%s.trustAll", io.swagger.v3.parser.util.RemoteUrl.class.getName()), Boolean.TRUE.toString());
@@ -101,6 +115,35 @@ public class SwaggerServiceImpl implements SwaggerService {
     public NewSwaggerApiEntity prepare(ImportSwaggerDescriptorEntity swaggerDescriptor) {
         NewSwaggerApiEntity apiEntity;
 
+        // inline descriptors declare their version, go straight to the right parser
+        if (swaggerDescriptor.getType() == ImportSwaggerDescriptorEntity.Type.INLINE) {
+            switch (SwaggerDescriptorVersion.detect(swaggerDescriptor.getPayload())) {
+                case V1:
+                    apiEntity = prepareV1(swaggerDescriptor);
+                    break;
+                case V2:
+                    apiEntity = prepareV2(swaggerDescriptor);
+                    break;
+                case V3:
+                    apiEntity = prepareV3(swaggerDescriptor);
+                    break;
+                default:
+                    apiEntity = prepareByTrial(swaggerDescriptor);
+            }
+        } else {
+            apiEntity = prepareByTrial(swaggerDescriptor);
+        }
+
+        if (apiEntity == null) {
+            throw new SwaggerDescriptorException();
+        }
+
+        return apiEntity;
+    }
+
+    private NewSwaggerApiEntity prepareByTrial(ImportSwaggerDescriptorEntity swaggerDescriptor) {
+        NewSwaggerApiEntity apiEntity;
+
         // try to read swagger in version 2
         apiEntity = prepareV2(swaggerDescriptor);
 
@@ -114,10 +157,6 @@ public class SwaggerServiceImpl implements SwaggerService {
             apiEntity = prepareV1(swaggerDescriptor);
         }
 
-        if (apiEntity == null) {
-            throw new SwaggerDescriptorException();
-        }
-
         return apiEntity;
     }
 
@@ -174,34 +213,105 @@ public class SwaggerServiceImpl implements SwaggerService {
                 && page.getConfiguration().get("tryItURL") != null
                 && !page.getConfiguration().get("tryItURL").isEmpty()) {
 
-            Object swagger = transformV2(page.getContent(), page.getConfiguration());
-
-            if (swagger == null) {
-                swagger = transformV1(page.getContent(), page.getConfiguration());
+            if (page.getId() == null) {
+                page.setContent(transformContent(page));
+                return;
             }
 
-            if (swagger == null) {
-                swagger = transformV3(page.getContent(), page.getConfiguration());
+            // Documents are cached by page, along with the fingerprint of what they have been transformed from
+            final String fingerprint = fingerprint(page);
+            final TransformedDocument cached = transformedDocuments.getIfPresent(page.getId());
+            if (cached != null && cached.fingerprint.equals(fingerprint)) {
+                page.setContent(cached.content);
+                return;
             }
 
-            if (swagger == null) {
-                throw new SwaggerDescriptorException();
-            }
+            final String content = transformContent(page);
+            transformedDocuments.put(page.getId(), new TransformedDocument(fingerprint, content));
+            page.setContent(content);
+        }
+    }
 
-            if (page.getContentType().equalsIgnoreCase(MediaType.APPLICATION_JSON)) {
-                try {
-                    page.setContent(Json.pretty().writeValueAsString(swagger));
-                } catch (JsonProcessingException e) {
-                    logger.error("Unexpected error", e);
+    @Override
+    public void evict(String pageId) {
+        if (pageId != null) {
+            transformedDocuments.invalidate(pageId);
+        }
+    }
+
+    private String transformContent(final PageEntity page) {
+        Object swagger;
+
+        switch (SwaggerDescriptorVersion.detect(page.getContent())) {
+            case V1:
+                swagger = transformV1(page.getContent(), page.getConfiguration());
+                break;
+            case V2:
+                swagger = transformV2(page.getContent(), page.getConfiguration());
+                break;
+            case V3:
+                swagger = transformV3(page.getContent(), page.getConfiguration());
+                break;
+            default:
+                swagger = transformV2(page.getContent(), page.getConfiguration());
+
+                if (swagger == null) {
+                    swagger = transformV1(page.getContent(), page.getConfiguration());
                 }
-            } else {
-                try {
-                    page.setContent(Yaml.pretty().writeValueAsString(swagger));
-                } catch (JsonProcessingException e) {
-                    logger.error("Unexpected error", e);
+
+                if (swagger == null) {
+                    swagger = transformV3(page.getContent(), page.getConfiguration());
                 }
+        }
+
+        if (swagger == null) {
+            throw new SwaggerDescriptorException();
+        }
+
+        if (page.getContentType().equalsIgnoreCase(MediaType.APPLICATION_JSON)) {
+            try {
+                return Json.pretty().writeValueAsString(swagger);
+            } catch (JsonProcessingException e) {
+                logger.error("Unexpected error", e);
+            }
+        } else {
+            try {
+                return Yaml.pretty().writeValueAsString(swagger);
+            } catch (JsonProcessingException e) {
+                logger.error("Unexpected error", e);
             }
         }
+        return page.getContent();
+    }
+
+    private String fingerprint(final PageEntity page) {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                .putString(page.getContent(), StandardCharsets.UTF_8)
+                .putString(String.valueOf(page.getContentType()), StandardCharsets.UTF_8);
+        new TreeMap<>(page.getConfiguration()).forEach((key, value) -> hasher
+                .putString(String.valueOf(key), StandardCharsets.UTF_8)
+                .putString(String.valueOf(value), StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        transformedDocuments = CacheBuilder
+                .newBuilder()
+                .maximumWeight(cacheMaxSize)
+                .<String, TransformedDocument>weigher((pageId, document) -> document.content.length())
+                .build();
+    }
+
+    private static final class TransformedDocument {
+
+        private final String fingerprint;
+        private final String content;
+
+        private TransformedDocument(String fingerprint, String content) {
+            this.fingerprint = fingerprint;
+            this.content = content;
+        }
     }
 
     private File createTmpSwagger1File(String content) {
@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
 import io.gravitee.common.utils.IdGenerator;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.TagRepository;
@@ -30,6 +31,7 @@ import io.gravitee.rest.api.service.TagService;
 import io.gravitee.rest.api.service.exceptions.DuplicateTagNameException;
 import io.gravitee.rest.api.service.exceptions.TagNotFoundException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +56,9 @@ public class TagServiceImpl extends AbstractService implements TagService {
 
     private final Logger LOGGER = LoggerFactory.getLogger(TagServiceImpl.class);
 
+    private static final String TAGS_CACHE = "tags";
+    private static final String ALL_TAGS = "all";
+
     @Autowired
     private TagRepository tagRepository;
     @Autowired
@@ -62,14 +67,22 @@ public class TagServiceImpl extends AbstractService implements TagService {
     private AuditService auditService;
     @Autowired
     private GroupService groupService;
+    @Autowired
+    private ClusteredCacheManager cacheManager;
 
     @Override
     public List<TagEntity> findAll() {
         try {
             LOGGER.debug("Find all tags");
-            return tagRepository.findAll()
-                    .stream()
-                    .map(this::convert).collect(toList());
+            final Cache<String, List<TagEntity>> cache = cacheManager.getCache(TAGS_CACHE);
+            List<TagEntity> tags = cache.getIfPresent(ALL_TAGS);
+            if (tags == null) {
+                tags = tagRepository.findAll()
+                        .stream()
+                        .map(this::convert).collect(toList());
+                cache.put(ALL_TAGS, tags);
+            }
+            return new ArrayList<>(tags);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find all tags", ex);
             throw new TechnicalManagementException("An error occurs while trying to find all tags", ex);
@@ -123,6 +136,7 @@ public class TagServiceImpl extends AbstractService implements TagService {
             try {
                 Tag tag = convert(tagEntity);
                 savedTags.add(convert(tagRepository.create(tag)));
+                cacheManager.invalidate(TAGS_CACHE);
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(TAG, tag.getId()),
                         TAG_CREATED,
@@ -146,6 +160,7 @@ public class TagServiceImpl extends AbstractService implements TagService {
                 Optional<Tag> tagOptional = tagRepository.findById(tag.getId());
                 if (tagOptional.isPresent()) {
                     savedTags.add(convert(tagRepository.update(tag)));
+                    cacheManager.invalidate(TAGS_CACHE);
                     auditService.createPortalAuditLog(
                             Collections.singletonMap(TAG, tag.getId()),
                             TAG_UPDATED,
@@ -167,6 +182,7 @@ public class TagServiceImpl extends AbstractService implements TagService {
             Optional<Tag> tagOptional = tagRepository.findById(tagId);
             if (tagOptional.isPresent()) {
                 tagRepository.delete(tagId);
+                cacheManager.invalidate(TAGS_CACHE);
                 // delete all reference on APIs
                 apiService.deleteTagFromAPIs(tagId);
                 auditService.createPortalAuditLog(
@@ -57,17 +57,15 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
     @Autowired
     private SubscriptionService subscriptionService;
     @Autowired
-    private ApplicationService applicationService;
-    @Autowired
     private MembershipRepository membershipRepository;
     @Autowired
     private ApiRepository apiRepository;
     @Autowired
     private RoleService roleService;
     @Autowired
-    private PlanService planService;
-    @Autowired
     private WorkflowService workflowService;
+    @Autowired
+    private BatchMetadataResolver metadataResolver;
 
     @Override
     public List<TaskEntity> findAll(String userId) {
@@ -187,29 +185,46 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
 
     public Metadata getMetadata(List<TaskEntity> tasks) {
         final Metadata metadata = new Metadata();
+
+        final BatchMetadataResolver.Batch batch = metadataResolver.newBatch();
+        tasks.forEach(task -> {
+            final Object data = task.getData();
+            if (data instanceof SubscriptionEntity) {
+                final SubscriptionEntity subscription = (SubscriptionEntity) data;
+                batch.application(subscription.getApplication())
+                        .plan(subscription.getPlan(), subscription.getApi())
+                        .api(subscription.getApi());
+            } else if (data instanceof Workflow) {
+                final Workflow workflow = (Workflow) data;
+                if (API.name().equals(workflow.getReferenceType())) {
+                    batch.api(workflow.getReferenceId());
+                }
+            }
+        });
+
         tasks.forEach( task -> {
             final Object data = task.getData();
             if (data instanceof SubscriptionEntity) {
                 final SubscriptionEntity subscription = (SubscriptionEntity) data;
 
                 if (!metadata.containsKey(subscription.getApplication())) {
-                    ApplicationEntity applicationEntity = applicationService.findById(subscription.getApplication());
-                    metadata.put(subscription.getApplication(), "name", applicationEntity.getName());
+                    batch.getApplication(subscription.getApplication()).ifPresent(application ->
+                            metadata.put(subscription.getApplication(), "name", application.getName()));
                 }
 
                 if (!metadata.containsKey(subscription.getPlan())) {
-                    PlanEntity planEntity = planService.findById(subscription.getPlan());
-                    String apiId = planEntity.getApi();
-                    ApiEntity api = apiService.findById(apiId);
-                    metadata.put(subscription.getPlan(), "name", planEntity.getName());
-                    metadata.put(subscription.getPlan(), "api", apiId);
-                    metadata.put(apiId, "name", api.getName());
+                    batch.getPlan(subscription.getPlan()).ifPresent(plan -> {
+                        String apiId = plan.getApi();
+                        metadata.put(subscription.getPlan(), "name", plan.getName());
+                        metadata.put(subscription.getPlan(), "api", apiId);
+                        batch.getApi(apiId).ifPresent(api -> metadata.put(apiId, "name", api.getName()));
+                    });
                 }
             } else if (data instanceof Workflow) {
                 final Workflow workflow = (Workflow) data;
                 if (API.name().equals(workflow.getReferenceType()) && !metadata.containsKey(workflow.getReferenceId())) {
-                    ApiEntity api = apiService.findById(workflow.getReferenceId());
-                    metadata.put(api.getId(), "name", api.getName());
+                    batch.getApi(workflow.getReferenceId()).ifPresent(api ->
+                            metadata.put(api.getId(), "name", api.getName()));
                 }
             }
         });
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import io.gravitee.rest.api.service.TemplateService;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Compiled templates are cached by name and content hash: an updated content is compiled again under a new key
+ * while the previous version is evicted once the cache is full.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class TemplateServiceImpl implements TemplateService, InitializingBean {
+
+    private static final String KEY_SEPARATOR = "|";
+
+    @Autowired
+    private Configuration freemarkerConfiguration;
+
+    @Value("${templates.cache.size:1000}")
+    private long cacheSize = 1000;
+
+    private Cache<String, Template> templates;
+
+    @Override
+    public Template getTemplate(String name, String content) throws IOException {
+        final String key = name + KEY_SEPARATOR + Hashing.sha256().hashString(content, StandardCharsets.UTF_8);
+        try {
+            return templates.get(key, () -> new Template(name, content, freemarkerConfiguration));
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return templates.stats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return templates.stats().missCount();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        templates = CacheBuilder
+                .newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+    }
+}
@@ -42,6 +42,7 @@ import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.common.JWTHelper.ACTION;
 import io.gravitee.rest.api.service.common.JWTHelper.Claims;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.cache.PictureCache;
 import io.gravitee.rest.api.service.impl.search.SearchResult;
 import io.gravitee.rest.api.service.notification.NotificationParamsBuilder;
 import io.gravitee.rest.api.service.notification.PortalHook;
@@ -60,7 +61,6 @@ import org.springframework.stereotype.Component;
 
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
-import javax.xml.bind.DatatypeConverter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -120,6 +120,8 @@ public class UserServiceImpl extends AbstractService implements UserService {
     private GenericNotificationConfigService genericNotificationConfigService;
     @Autowired
     private GroupService groupService;
+    @Autowired
+    private PictureCache pictureCache;
 
     @Value("${user.login.defaultApplication:true}")
     private boolean defaultApplicationForFirstConnection;
@@ -367,21 +369,22 @@ public class UserServiceImpl extends AbstractService implements UserService {
 
     @Override
     public PictureEntity getPicture(String id) {
-        UserEntity user = findById(id);
-
-        if (user.getPicture() != null) {
-            String picture = user.getPicture();
+        final String picture;
+        try {
+            picture = userRepository.findById(id)
+                    .orElseThrow(() -> new UserNotFoundException(id))
+                    .getPicture();
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find user using its ID {}", id, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find user using its ID " + id, ex);
+        }
 
+        if (picture != null) {
             if (picture.matches("^(http|https)://.*$")) {
                 return new UrlPictureEntity(picture);
             } else {
                 try {
-                    InlinePictureEntity imageEntity = new InlinePictureEntity();
-                    String[] parts = picture.split(";", 2);
-                    imageEntity.setType(parts[0].split(":")[1]);
-                    String base64Content = picture.split(",", 2)[1];
-                    imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-                    return imageEntity;
+                    return pictureCache.getPicture("user:" + id, picture);
                 } catch (Exception ex) {
                     LOGGER.warn("Unable to get user picture for id[{}]", id);
                 }
@@ -20,8 +20,6 @@ import static io.gravitee.repository.management.model.View.AuditEvent.VIEW_CREAT
 import static io.gravitee.repository.management.model.View.AuditEvent.VIEW_DELETED;
 import static io.gravitee.repository.management.model.View.AuditEvent.VIEW_UPDATED;
 
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -29,9 +27,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import javax.xml.bind.DatatypeConverter;
-
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,6 +48,7 @@ import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.DuplicateViewNameException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.exceptions.ViewNotFoundException;
+import io.gravitee.rest.api.service.impl.cache.PictureCache;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -76,6 +72,9 @@ public class ViewServiceImpl extends TransactionalService implements ViewService
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private PictureCache pictureCache;
+
     @Override
     public List<ViewEntity> findAll() {
         try {
@@ -255,27 +254,10 @@ public class ViewServiceImpl extends TransactionalService implements ViewService
     @Override
     public InlinePictureEntity getPicture(String viewId) {
         ViewEntity viewEntity = findById(viewId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
         if (viewEntity.getPicture() == null) {
-            imageEntity.setType("image/png");
-            imageEntity.setContent(getDefaultPicture());
-        } else {
-            String[] parts = viewEntity.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = viewEntity.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-        }
-
-        return imageEntity;
-    }
-
-    private byte[] getDefaultPicture() {
-        try {
-            return IOUtils.toByteArray(new FileInputStream(defaultIcon));
-        } catch (IOException ioe) {
-            LOGGER.error("Default icon for View does not exist", ioe);
+            return pictureCache.getDefaultPicture(defaultIcon);
         }
-        return null;
+        return pictureCache.getPicture("view:" + viewEntity.getId(), viewEntity.getPicture());
     }
 
     private View convert(final NewViewEntity viewEntity) {
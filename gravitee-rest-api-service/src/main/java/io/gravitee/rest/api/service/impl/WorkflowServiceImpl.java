@@ -30,8 +30,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -78,4 +83,20 @@ public class WorkflowServiceImpl extends TransactionalService implements Workflo
             throw new TechnicalManagementException(message, ex);
         }
     }
+
+    @Override
+    public Map<String, List<Workflow>> findByEachReferenceAndType(final WorkflowReferenceType referenceType,
+                                                                  final Collection<String> referenceIds,
+                                                                  final WorkflowType type) {
+        // WorkflowRepository only exposes findByReferenceAndType: there is one repository call per distinct reference
+        final Set<String> distinctReferenceIds = new LinkedHashSet<>(referenceIds);
+        final Map<String, List<Workflow>> workflowsByReference = new HashMap<>(distinctReferenceIds.size());
+        for (String referenceId : distinctReferenceIds) {
+            final List<Workflow> workflows = findByReferenceAndType(referenceType, referenceId, type);
+            if (workflows != null && !workflows.isEmpty()) {
+                workflowsByReference.put(referenceId, workflows);
+            }
+        }
+        return workflowsByReference;
+    }
 }
@@ -0,0 +1,217 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.diff.JsonDiff;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Audit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Audit logs are queued by the request threads and written by a dedicated thread: the old and the new value are
+ * converted to JSON trees by the caller, so that an entity modified after being audited is not altered in its audit,
+ * then the JSON patch between them is computed by the writer, and pending audits are drained from the queue in
+ * batches.
+ *
+ * The queue is bounded. When it is full, callers wait for a free slot up to <code>audit.writer.offerTimeout</code>
+ * milliseconds, then write the audit themselves so that no audit is ever dropped. Pending audits are written when
+ * the context is closed.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class AuditWriter implements InitializingBean, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(AuditWriter.class);
+
+    private static final long POLL_TIMEOUT = 100;
+
+    @Autowired
+    private AuditRepository auditRepository;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Value("${audit.writer.queueSize:10000}")
+    private int queueSize;
+
+    @Value("${audit.writer.batchSize:100}")
+    private int batchSize;
+
+    @Value("${audit.writer.offerTimeout:1000}")
+    private long offerTimeout;
+
+    private BlockingQueue<PendingAudit> queue;
+
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong callerWriteCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    @Override
+    public void afterPropertiesSet() {
+        queue = new ArrayBlockingQueue<>(queueSize);
+        running = true;
+        thread = new Thread(this::run, "gio-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        thread.join(offerTimeout);
+
+        logger.debug("Writing {} pending audits before shutdown", getQueueDepth());
+        drain();
+    }
+
+    /**
+     * Queues an audit. The values are converted right away, the patch between them is computed when the audit is
+     * written.
+     */
+    public void write(Audit audit, Object oldValue, Object newValue) {
+        final PendingAudit pendingAudit;
+        try {
+            pendingAudit = new PendingAudit(audit, toNode(oldValue), toNode(newValue));
+        } catch (Exception ex) {
+            logger.error("Unable to compute the patch of Audit Log {}.", audit.getId(), ex);
+            return;
+        }
+
+        if (!running) {
+            write(pendingAudit);
+            return;
+        }
+
+        try {
+            if (queue.offer(pendingAudit, offerTimeout, TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    // The writer has been stopped meanwhile
+                    drain();
+                }
+                return;
+            }
+            logger.warn("Audit queue is full, writing audit {} on the caller thread", audit.getId());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        callerWriteCount.incrementAndGet();
+        write(pendingAudit);
+    }
+
+    /**
+     * @return the number of audits waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    /**
+     * @return the number of audits written by the caller thread because the queue was full.
+     */
+    public long getCallerWriteCount() {
+        return callerWriteCount.get();
+    }
+
+    private void run() {
+        final List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingAudit first = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                batch.forEach(this::write);
+                logger.debug("{} audits written", batch.size());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                logger.error("Unexpected error while writing audits", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drain() {
+        List<PendingAudit> audits = new ArrayList<>();
+        queue.drainTo(audits);
+        audits.forEach(this::write);
+    }
+
+    private void write(PendingAudit pendingAudit) {
+        final Audit audit = pendingAudit.audit;
+        try {
+            audit.setPatch(JsonDiff.asJson(pendingAudit.oldValue, pendingAudit.newValue).toString());
+
+            auditRepository.create(audit);
+            writeCount.incrementAndGet();
+        } catch (TechnicalException e) {
+            logger.error("Error occurs during the creation of an Audit Log {}.", audit.getId(), e);
+        } catch (Exception ex) {
+            logger.error("Unable to compute the patch of Audit Log {}.", audit.getId(), ex);
+        }
+    }
+
+    private ObjectNode toNode(Object value) {
+        return value == null
+                ? mapper.createObjectNode()
+                : mapper.convertValue(value, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+    }
+
+    private static class PendingAudit {
+        private final Audit audit;
+        private final ObjectNode oldValue;
+        private final ObjectNode newValue;
+
+        private PendingAudit(Audit audit, ObjectNode oldValue, ObjectNode newValue) {
+            this.audit = audit;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandQuery;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.service.CommandService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process caches of the configuration read on almost every request (parameters, roles, entrypoints, tags...).
+ *
+ * Writing a cached configuration invalidates the cache locally and sends a command to the other nodes, which poll
+ * the commands every <code>cache.invalidation.interval</code> seconds and invalidate their own copy. Entries also
+ * expire after <code>cache.ttl</code> seconds, so that a lost command only delays the update.
+ *
+ * Within a transaction, the invalidation is done once it is committed: a read made in the meantime would otherwise
+ * cache the value about to be replaced.
+ *
+ * The caches are shared by all the environments, so the commands are always sent and read in the default environment,
+ * whatever the environment of the request which made the write.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ClusteredCacheManager implements InitializingBean, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(ClusteredCacheManager.class);
+
+    private static final int COMMAND_TTL = 60;
+
+    @Autowired
+    private CommandService commandService;
+
+    @Value("${cache.ttl:60}")
+    private long ttl = 60;
+
+    @Value("${cache.size:1000}")
+    private long size = 1000;
+
+    @Value("${cache.invalidation.interval:5}")
+    private long invalidationInterval = 5;
+
+    private final Map<String, Cache<String, ?>> caches = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gio-cache-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::pollInvalidations, invalidationInterval, invalidationInterval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public <V> Cache<String, V> getCache(String name) {
+        return getCache(name, ttl, size);
+    }
+
+    /**
+     * @param ttl the delay, in seconds, after which an entry expires.
+     * @param size the maximum number of entries.
+     * @return the cache of the given name, created with the given settings if it does not exist yet.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Cache<String, V> getCache(String name, long ttl, long size) {
+        return (Cache<String, V>) caches.computeIfAbsent(name, key -> CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .maximumSize(size)
+                .build());
+    }
+
+    /**
+     * Invalidates the cache on this node and on the other nodes of the cluster, once the current transaction if any
+     * has been committed.
+     */
+    public void invalidate(String name) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(name);
+                }
+            });
+        } else {
+            invalidateNow(name);
+        }
+    }
+
+    private void invalidateNow(String name) {
+        invalidateLocally(name);
+
+        try {
+            NewCommandEntity command = new NewCommandEntity();
+            command.setTags(Collections.singletonList(CommandTags.CACHE_INVALIDATION));
+            command.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+            command.setTtlInSeconds(COMMAND_TTL);
+            command.setContent(name);
+            final String environment = GraviteeContext.getCurrentEnvironment();
+            GraviteeContext.setCurrentEnvironment(GraviteeContext.getDefaultEnvironment());
+            try {
+                commandService.send(command);
+            } finally {
+                GraviteeContext.setCurrentEnvironment(environment);
+            }
+        } catch (Exception ex) {
+            // The write has been done, the other nodes will see it once their cache has expired
+            logger.error("Unable to notify the other nodes of the invalidation of cache {}", name, ex);
+        }
+    }
+
+    void invalidateLocally(String name) {
+        final Cache<String, ?> cache = caches.get(name);
+        if (cache != null) {
+            logger.debug("Invalidating cache {}", name);
+            cache.invalidateAll();
+        }
+    }
+
+    void pollInvalidations() {
+        try {
+            GraviteeContext.setCurrentEnvironment(GraviteeContext.getDefaultEnvironment());
+            CommandQuery query = new CommandQuery();
+            query.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+            query.setTags(Collections.singletonList(CommandTags.CACHE_INVALIDATION));
+            List<CommandEntity> commands = commandService.search(query);
+            for (CommandEntity command : commands) {
+                invalidateLocally(command.getContent());
+                commandService.ack(command.getId());
+            }
+        } catch (Exception ex) {
+            logger.error("Unable to get the cache invalidation commands", ex);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.bind.DatatypeConverter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded pictures of the APIs, applications, views and users.
+ *
+ * Pictures are stored as base64 data URIs. A picture is decoded and hashed once, then served from memory as long as
+ * the digest of the data URI read from the repository is unchanged, so that no invalidation is needed when it is
+ * updated. The decoded pictures are bounded to <code>cache.pictures.maxSize</code> megabytes, the least recently used
+ * ones are evicted first. Default icons are read from disk once.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class PictureCache implements InitializingBean {
+
+    private final Logger logger = LoggerFactory.getLogger(PictureCache.class);
+
+    private static final String DEFAULT_TYPE = "image/png";
+
+    @Value("${cache.pictures.maxSize:16}")
+    private long maxSize = 16;
+
+    private Cache<String, CachedPicture> cache;
+
+    private final Map<String, InlinePictureEntity> defaultPictures = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = CacheBuilder
+                .newBuilder()
+                .maximumWeight(maxSize * 1024 * 1024)
+                .weigher((String key, CachedPicture cachedPicture) -> cachedPicture.weight())
+                .build();
+    }
+
+    /**
+     * @param key the key of the picture, prefixed by the type of its owner (e.g. <code>api:{id}</code>).
+     * @param dataUri the picture read from the repository.
+     * @return the decoded picture, shared between callers.
+     */
+    public InlinePictureEntity getPicture(String key, String dataUri) {
+        final byte[] digest = digest(dataUri);
+        CachedPicture cachedPicture = cache.getIfPresent(key);
+        if (cachedPicture == null || !MessageDigest.isEqual(cachedPicture.digest, digest)) {
+            cachedPicture = new CachedPicture(digest, decode(dataUri));
+            cache.put(key, cachedPicture);
+        }
+        return cachedPicture.picture;
+    }
+
+    /**
+     * @return the icon read from the given path, without content if the file can not be read.
+     */
+    public InlinePictureEntity getDefaultPicture(String path) {
+        InlinePictureEntity picture = defaultPictures.get(path);
+        if (picture == null) {
+            picture = new InlinePictureEntity();
+            picture.setType(DEFAULT_TYPE);
+            try {
+                picture.setContent(Files.readAllBytes(Paths.get(path)));
+                defaultPictures.put(path, picture);
+            } catch (IOException ioe) {
+                logger.error("Default icon {} does not exist", path, ioe);
+            }
+        }
+        return picture;
+    }
+
+    private InlinePictureEntity decode(String dataUri) {
+        final InlinePictureEntity picture = new InlinePictureEntity();
+        String[] parts = dataUri.split(";", 2);
+        picture.setType(parts[0].split(":")[1]);
+        String base64Content = dataUri.split(",", 2)[1];
+        picture.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+        // Hashed now so that the ETag of a cached picture comes for free
+        picture.getHash();
+        return picture;
+    }
+
+    private byte[] digest(String dataUri) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(dataUri.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException nsae) {
+            // Every JVM provides MD5, keep the data URI itself otherwise
+            return dataUri.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class CachedPicture {
+        private final byte[] digest;
+        private final InlinePictureEntity picture;
+
+        private CachedPicture(byte[] digest, InlinePictureEntity picture) {
+            this.digest = digest;
+            this.picture = picture;
+        }
+
+        private int weight() {
+            final byte[] content = picture.getContent();
+            return digest.length + (content == null ? 0 : content.length);
+        }
+    }
+}
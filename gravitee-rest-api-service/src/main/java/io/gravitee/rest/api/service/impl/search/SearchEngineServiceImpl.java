@@ -47,6 +47,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.*;
 
+import static io.gravitee.rest.api.service.spring.AsyncConfiguration.INDEXER_EXECUTOR;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -90,7 +92,7 @@ public class SearchEngineServiceImpl implements SearchEngineService {
     private static final String ACTION_INDEX = "I";
     private static final String ACTION_DELETE = "D";
 
-    @Async
+    @Async(INDEXER_EXECUTOR)
     @Override
     public void index(Indexable source, boolean locally) {
         if (locally) {
@@ -105,7 +107,7 @@ public class SearchEngineServiceImpl implements SearchEngineService {
         }
     }
 
-    @Async
+    @Async(INDEXER_EXECUTOR)
     @Override
     public void delete(Indexable source, boolean locally) {
         if (locally) {
@@ -163,26 +165,29 @@ public class SearchEngineServiceImpl implements SearchEngineService {
         transformers.stream()
                 .filter(transformer -> transformer.handle(source.getClass()))
                 .findFirst()
-                .ifPresent(transformer -> {
-                    try {
-                        indexer.index(transformer.transform(source));
-                    } catch (TechnicalException te) {
-                        logger.error("Unexpected error while indexing a document", te);
-                    }
-                });
+                .ifPresent(transformer -> indexer.index(transformer.transform(source)));
     }
 
     private void deleteLocally(Indexable source) {
         transformers.stream()
                 .filter(transformer -> transformer.handle(source.getClass()))
                 .findFirst()
-                .ifPresent(transformer -> {
-                    try {
-                        indexer.remove(transformer.transform(source));
-                    } catch (TechnicalException te) {
-                        logger.error("Unexpected error while deleting a document", te);
-                    }
-                });
+                .ifPresent(transformer -> indexer.remove(transformer.transform(source)));
+    }
+
+    @Override
+    public Map<String, Long> findIndexedVersions() {
+        try {
+            return indexer.versions();
+        } catch (TechnicalException te) {
+            logger.error("Unexpected error while reading indexed documents", te);
+            throw new TechnicalManagementException("Unexpected error while reading indexed documents", te);
+        }
+    }
+
+    @Override
+    public void deleteLocally(Collection<String> ids) {
+        ids.forEach(indexer::remove);
     }
 
     @Override
@@ -17,10 +17,17 @@ package io.gravitee.rest.api.service.impl.search.configuration;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +37,8 @@ import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -38,9 +47,31 @@ import java.nio.file.Paths;
 @Configuration
 public class SearchEngineConfiguration {
 
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(SearchEngineConfiguration.class);
+
+    /**
+     * Version of the documents structure. It must be increased each time a document transformer is changed so that
+     * a persistent index built by a previous version is recreated from scratch.
+     */
+    public static final String INDEX_SCHEMA_VERSION = "4";
+
+    private static final String INDEX_SCHEMA_VERSION_KEY = "schemaVersion";
+
     @Value("${search.data:${gravitee.home}/data}")
     private String indexDirectory;
 
+    @Value("${search.persistent:false}")
+    private boolean persistent;
+
+    @Value("${search.reader.maxStaleSec:1.0}")
+    private double targetMaxStaleSec;
+
+    @Value("${search.reader.minStaleSec:0.1}")
+    private double targetMinStaleSec;
+
     @Bean
     public SearchEngineIndexer searchEngineIndexer() {
         return new SearchEngineIndexer();
@@ -59,9 +90,50 @@ public class SearchEngineConfiguration {
     @Bean
     public IndexWriter indexWriter(Directory directory, Analyzer analyzer) throws IOException {
         IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-        iwc.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        iwc.setOpenMode(persistent && isSchemaUpToDate(directory) ?
+                IndexWriterConfig.OpenMode.CREATE_OR_APPEND : IndexWriterConfig.OpenMode.CREATE);
+
+        IndexWriter indexWriter = new IndexWriter(directory, iwc);
+        indexWriter.setLiveCommitData(Collections.singletonMap(INDEX_SCHEMA_VERSION_KEY, INDEX_SCHEMA_VERSION).entrySet());
+
+        return indexWriter;
+    }
+
+    private boolean isSchemaUpToDate(Directory directory) throws IOException {
+        if (!DirectoryReader.indexExists(directory)) {
+            return false;
+        }
+
+        List<IndexCommit> commits = DirectoryReader.listCommits(directory);
+        String schemaVersion = commits.get(commits.size() - 1).getUserData().get(INDEX_SCHEMA_VERSION_KEY);
+        if (!INDEX_SCHEMA_VERSION.equals(schemaVersion)) {
+            logger.info("Search index schema has changed (from {} to {}), the index will be recreated",
+                    schemaVersion, INDEX_SCHEMA_VERSION);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Near-real-time searcher shared by all the document searchers. Readers are reference counted and must be
+     * released after use through {@link SearcherManager#release(IndexSearcher)}.
+     */
+    @Bean(destroyMethod = "close")
+    public SearcherManager searcherManager(IndexWriter indexWriter) throws IOException {
+        return new SearcherManager(indexWriter, null);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ControlledRealTimeReopenThread<IndexSearcher> searcherReopenThread(IndexWriter indexWriter,
+                                                                             SearcherManager searcherManager) {
+        ControlledRealTimeReopenThread<IndexSearcher> reopenThread =
+                new ControlledRealTimeReopenThread<>(indexWriter, searcherManager, targetMaxStaleSec, targetMinStaleSec);
+        reopenThread.setName("gio-search-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
 
-        return new IndexWriter(directory, iwc);
+        return reopenThread;
     }
 
     @Bean
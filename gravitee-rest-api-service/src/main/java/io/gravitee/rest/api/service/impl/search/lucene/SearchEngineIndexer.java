@@ -21,18 +21,43 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Index updates are queued and coalesced by document ID and type, then applied to the Lucene index in batches. The
+ * index is committed once per batch, either when the queue reaches the batch size or when the commit interval has
+ * elapsed.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class SearchEngineIndexer {
+public class SearchEngineIndexer implements InitializingBean, DisposableBean {
 
     /**
      * Logger.
@@ -41,38 +66,222 @@ public class SearchEngineIndexer {
 
     private final static String ID_FIELD = "id";
     private final static String TYPE_FIELD = "type";
+    public final static String VERSION_FIELD = "version";
 
     @Autowired
     private IndexWriter writer;
 
-    public long index(Document document) throws TechnicalException {
-        logger.debug("Updating a document into the Lucene index");
-        String id = document.get(ID_FIELD);
+    @Autowired
+    private SearcherManager searcherManager;
+
+    @Value("${search.indexer.batchSize:500}")
+    private int batchSize;
+
+    @Value("${search.indexer.commitInterval:1000}")
+    private long commitInterval;
+
+    private final Map<String, Operation> pendingOperations = new LinkedHashMap<>();
+
+    private final AtomicLong commitCount = new AtomicLong();
+    private final AtomicLong commitTotalTime = new AtomicLong();
+    private volatile long lastCommitTime;
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gio-search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, commitInterval, commitInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        executor.shutdown();
+        executor.awaitTermination(commitInterval, TimeUnit.MILLISECONDS);
+
+        logger.debug("Flushing {} pending index operations before shutdown", getQueueDepth());
+        flush();
+        logger.info("Search index committed {} times, in {} ms on average", getCommitCount(), getAverageCommitTime());
+    }
+
+    public void index(Document document) {
+        logger.debug("Queuing a document update into the Lucene index");
+        enqueue(new Operation(document.get(ID_FIELD), document.get(TYPE_FIELD), document));
+    }
+
+    public void remove(Document document) {
+        logger.debug("Queuing removal of document type[{}] ID[{}]", document.get(TYPE_FIELD), document.get(ID_FIELD));
+        enqueue(new Operation(document.get(ID_FIELD), document.get(TYPE_FIELD), null));
+    }
+
+    public void remove(String id) {
+        logger.debug("Queuing removal of document ID[{}]", id);
+        enqueue(new Operation(id, null, null));
+    }
+
+    /**
+     * Reads the version stored along with each indexed document.
+     *
+     * @return the version of the indexed documents, by document ID.
+     */
+    public Map<String, Long> versions() throws TechnicalException {
+        final Set<String> fields = new HashSet<>();
+        fields.add(ID_FIELD);
+        fields.add(VERSION_FIELD);
+
+        IndexSearcher searcher = null;
         try {
-            long seq = writer.updateDocument(new Term(ID_FIELD, id), document);
+            searcherManager.maybeRefreshBlocking();
+            searcher = searcherManager.acquire();
+
+            TopDocs topDocs = searcher.search(new MatchAllDocsQuery(), Math.max(1, searcher.getIndexReader().numDocs()));
+            Map<String, Long> versions = new HashMap<>(topDocs.scoreDocs.length);
+            for (ScoreDoc hit : topDocs.scoreDocs) {
+                Document document = searcher.doc(hit.doc, fields);
+                Number version = document.getField(VERSION_FIELD) == null ?
+                        null : document.getField(VERSION_FIELD).numericValue();
+                versions.put(document.get(ID_FIELD), version == null ? 0L : version.longValue());
+            }
+            return versions;
+        } catch (IOException ioe) {
+            logger.error("Fail to read indexed document versions", ioe);
+            throw new TechnicalException("Fail to read indexed document versions", ioe);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException ioe) {
+                    logger.error("Fail to release index searcher", ioe);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies all the pending operations to the index and commits it.
+     */
+    public synchronized void flush() throws TechnicalException {
+        List<Operation> operations;
+        synchronized (pendingOperations) {
+            if (pendingOperations.isEmpty()) {
+                return;
+            }
+            operations = new ArrayList<>(pendingOperations.values());
+            pendingOperations.clear();
+        }
+
+        for (Operation operation : operations) {
+            try {
+                if (operation.document == null) {
+                    writer.deleteDocuments(operation.deleteQuery());
+                } else {
+                    writer.updateDocument(new Term(ID_FIELD, operation.id), operation.document);
+                }
+            } catch (IOException ioe) {
+                logger.error("Fail to index document with ID: {}", operation.id, ioe);
+            }
+        }
+
+        try {
+            long start = System.currentTimeMillis();
             writer.commit();
-            return seq;
+            lastCommitTime = System.currentTimeMillis() - start;
+            commitCount.incrementAndGet();
+            commitTotalTime.addAndGet(lastCommitTime);
+            logger.debug("{} index operations committed in {} ms ({} ms on average), {} operations pending",
+                    operations.size(), lastCommitTime, getAverageCommitTime(), getQueueDepth());
         } catch (IOException ioe) {
-            logger.error("Fail to index document with ID: {}", id, ioe);
-            throw new TechnicalException("Fail to index document with ID: " + id, ioe);
+            logger.error("Fail to commit {} index operations", operations.size(), ioe);
+            throw new TechnicalException("Fail to commit " + operations.size() + " index operations", ioe);
+        }
+    }
+
+    /**
+     * @return the number of documents waiting to be indexed or removed.
+     */
+    public int getQueueDepth() {
+        synchronized (pendingOperations) {
+            return pendingOperations.size();
         }
     }
 
-    public void remove(Document document) throws TechnicalException {
-        String type = document.get(TYPE_FIELD);
-        String id = document.get(ID_FIELD);
+    public long getCommitCount() {
+        return commitCount.get();
+    }
+
+    /**
+     * @return the duration of the last commit, in milliseconds.
+     */
+    public long getLastCommitTime() {
+        return lastCommitTime;
+    }
 
-        logger.debug("Removing document type[{}] ID[{}]", type, id);
+    /**
+     * @return the average duration of a commit, in milliseconds.
+     */
+    public double getAverageCommitTime() {
+        long count = commitCount.get();
+        return count == 0 ? 0 : (double) commitTotalTime.get() / count;
+    }
 
-        BooleanQuery.Builder bq = new BooleanQuery.Builder();
-        bq.add(new TermQuery(new Term(ID_FIELD, id)), BooleanClause.Occur.MUST);
-        bq.add(new TermQuery(new Term(TYPE_FIELD, type)), BooleanClause.Occur.MUST);
+    private void enqueue(Operation operation) {
+        int queueDepth;
+        synchronized (pendingOperations) {
+            // Only the latest operation for a given document has to be applied
+            if (operation.type == null) {
+                // Removing by ID removes the documents of every type
+                pendingOperations.values().removeIf(pending -> pending.id.equals(operation.id));
+            } else {
+                pendingOperations.remove(operation.key());
+            }
+            pendingOperations.put(operation.key(), operation);
+            queueDepth = pendingOperations.size();
+        }
 
+        if (queueDepth >= batchSize) {
+            executor.execute(this::flushQuietly);
+        }
+    }
+
+    private void flushQuietly() {
         try {
-            writer.deleteDocuments(bq.build());
-        } catch (IOException ioe) {
-            logger.error("Fail to index document with ID: {}", id, ioe);
-            throw new TechnicalException("Fail to index document with ID: " + id, ioe);
+            flush();
+        } catch (Exception ex) {
+            logger.error("Unexpected error while flushing index operations", ex);
+        }
+    }
+
+    /**
+     * A pending index update, or a removal when no document is provided.
+     */
+    private static class Operation {
+        private final String id;
+        private final String type;
+        private final Document document;
+
+        private Operation(String id, String type, Document document) {
+            this.id = id;
+            this.type = type;
+            this.document = document;
+        }
+
+        private String key() {
+            return type == null ? id : type + ':' + id;
+        }
+
+        private Query deleteQuery() {
+            if (type == null) {
+                return new TermQuery(new Term(ID_FIELD, id));
+            }
+
+            BooleanQuery.Builder bq = new BooleanQuery.Builder();
+            bq.add(new TermQuery(new Term(ID_FIELD, id)), BooleanClause.Occur.MUST);
+            bq.add(new TermQuery(new Term(TYPE_FIELD, type)), BooleanClause.Occur.MUST);
+            return bq.build();
         }
     }
 }
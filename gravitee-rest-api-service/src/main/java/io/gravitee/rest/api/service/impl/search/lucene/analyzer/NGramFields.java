@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.search.lucene.analyzer;
+
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+import java.io.StringReader;
+
+/**
+ * Infix n-grams indexed to match substrings (<code>*text*</code>) with term lookups instead of scanning the whole
+ * term dictionary with a leading wildcard.
+ *
+ * @author GraviteeSource Team
+ */
+public final class NGramFields {
+
+    public static final int MIN_GRAM = 2;
+    public static final int MAX_GRAM = 10;
+
+    private NGramFields() {
+    }
+
+    /**
+     * @return the lower-cased n-grams of the given value, to be indexed with a
+     * {@link org.apache.lucene.document.TextField}.
+     */
+    public static TokenStream tokenStream(String value) {
+        final Tokenizer tokenizer = new NGramTokenizer(MIN_GRAM, MAX_GRAM);
+        tokenizer.setReader(new StringReader(value));
+        return new LowerCaseFilter(tokenizer);
+    }
+
+    /**
+     * @return <code>true</code> if the text is long enough to be searched through n-grams.
+     */
+    public static boolean supports(String text) {
+        return text != null && text.length() >= MIN_GRAM;
+    }
+
+    /**
+     * Build a constant score query matching documents whose n-gram field contains the given text. Texts longer than
+     * {@link #MAX_GRAM} are matched by requiring all of their n-grams of maximum size.
+     */
+    public static Query substringQuery(String field, String text) {
+        final String value = text.toLowerCase();
+
+        if (value.length() <= MAX_GRAM) {
+            return new ConstantScoreQuery(new TermQuery(new Term(field, value)));
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (int start = 0; start + MAX_GRAM <= value.length(); start++) {
+            builder.add(new TermQuery(new Term(field, value.substring(start, start + MAX_GRAM))), BooleanClause.Occur.FILTER);
+        }
+
+        return new ConstantScoreQuery(builder.build());
+    }
+}
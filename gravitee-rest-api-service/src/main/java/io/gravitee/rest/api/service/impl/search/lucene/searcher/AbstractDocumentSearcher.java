@@ -22,9 +22,11 @@ import io.gravitee.rest.api.service.impl.search.lucene.DocumentSearcher;
 import io.gravitee.rest.api.service.impl.search.lucene.analyzer.CustomWhitespaceAnalyzer;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.search.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,8 +34,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -49,10 +52,15 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
     protected final static String FIELD_ID = "id";
     protected final static String FIELD_TYPE = "type";
 
+    /**
+     * Number of documents collected by the first pass of an unpaged search.
+     */
+    static final int UNPAGED_HITS = 100;
+
     protected Analyzer analyzer = new CustomWhitespaceAnalyzer();
 
     @Autowired
-    protected IndexWriter indexWriter;
+    protected SearcherManager searcherManager;
 
     protected SearchResult search(Query query) throws TechnicalException {
         return search(query, null);
@@ -61,44 +69,70 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
     protected SearchResult search(Query query, Pageable pageable) throws TechnicalException {
         logger.debug("Searching for: {}", query.toString());
 
+        IndexSearcher searcher = null;
         try {
-            IndexSearcher searcher = getIndexSearcher();
+            searcher = searcherManager.acquire();
             TopDocs topDocs;
 
             if (pageable != null) {
-                //TODO: How to find the accurate numhits ?
-                TopScoreDocCollector collector = TopScoreDocCollector.create(1000);
+                // Only the top documents up to the requested page have to be collected, total hits are still counted
+                int offset = (pageable.getPageNumber() - 1) * pageable.getPageSize();
+                TopScoreDocCollector collector = TopScoreDocCollector.create(Math.max(1, offset + pageable.getPageSize()));
                 searcher.search(query, collector);
 
-                topDocs = collector.topDocs((pageable.getPageNumber() - 1) * pageable.getPageSize(), pageable.getPageSize());
+                topDocs = collector.topDocs(offset, pageable.getPageSize());
             } else {
-                topDocs = searcher.search(query, Integer.MAX_VALUE);
+                // Most searches match less than a first batch of documents and are run once. The search is run again,
+                // sized to the number of matching documents, only when there are more of them.
+                topDocs = searcher.search(query, UNPAGED_HITS);
+                if (topDocs.totalHits > topDocs.scoreDocs.length) {
+                    topDocs = searcher.search(query, (int) Math.min(Integer.MAX_VALUE, topDocs.totalHits));
+                }
             }
 
             final ScoreDoc[] hits = topDocs.scoreDocs;
-            final List<String> results = new ArrayList<>();
+            final Set<String> results = new LinkedHashSet<>();
 
             logger.debug("Found {} total matching documents", topDocs.totalHits);
 
             if (hits.length > 0) {
-                // Iterate over found results
+                final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+
+                // Iterate over found results, references are read from doc values instead of loading stored fields
                 for (ScoreDoc hit : hits) {
-                    results.add(getReference(searcher.doc(hit.doc)));
+                    LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(hit.doc, leaves));
+                    String reference = getReference(leaf.reader(), hit.doc - leaf.docBase);
+                    if (reference != null) {
+                        results.add(reference);
+                    }
                 }
             }
 
-            return new SearchResult(results.stream().distinct().collect(Collectors.toList()), topDocs.totalHits);
+            return new SearchResult(new ArrayList<>(results), topDocs.totalHits);
         } catch (IOException ioe) {
             logger.error("An error occurs while getting documents from search result", ioe);
             throw new TechnicalException("An error occurs while getting documents from search result", ioe);
+        } finally {
+            release(searcher);
         }
     }
 
-    protected String getReference(Document document) {
-        return document.get(FIELD_ID);
+    protected String getReference(LeafReader reader, int docId) throws IOException {
+        return getDocValue(reader, docId, FIELD_ID);
     }
 
-    private IndexSearcher getIndexSearcher() throws IOException {
-        return new IndexSearcher(DirectoryReader.open(indexWriter));
+    protected String getDocValue(LeafReader reader, int docId, String field) throws IOException {
+        SortedDocValues values = DocValues.getSorted(reader, field);
+        return values.advanceExact(docId) ? values.binaryValue().utf8ToString() : null;
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher != null) {
+            try {
+                searcherManager.release(searcher);
+            } catch (IOException ioe) {
+                logger.error("An error occurs while releasing index searcher", ioe);
+            }
+        }
     }
 }
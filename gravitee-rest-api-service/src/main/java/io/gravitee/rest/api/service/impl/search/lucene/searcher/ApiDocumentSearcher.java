@@ -18,21 +18,25 @@ package io.gravitee.rest.api.service.impl.search.lucene.searcher;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.impl.search.SearchResult;
+import io.gravitee.rest.api.service.impl.search.lucene.analyzer.NGramFields;
 import io.gravitee.repository.exceptions.TechnicalException;
-import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.queryparser.classic.QueryParserBase;
 import org.apache.lucene.search.*;
+import org.apache.lucene.util.BytesRef;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -63,8 +67,13 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
         }
     };
 
-    @Override
-    public SearchResult search(io.gravitee.rest.api.service.search.query.Query query) throws TechnicalException {
+    /**
+     * Query parsers are not thread-safe: each thread is reusing its own instances.
+     */
+    private final ThreadLocal<QueryParser> apiParsers = ThreadLocal.withInitial(this::createApiParser);
+    private final ThreadLocal<QueryParser> pageParsers = ThreadLocal.withInitial(this::createPageParser);
+
+    private QueryParser createApiParser() {
         MultiFieldQueryParser apiParser = new MultiFieldQueryParser(new String[]{
                 "id",
                 "name",
@@ -84,6 +93,10 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
         apiParser.setFuzzyMinSim(0.6f);
         apiParser.setAllowLeadingWildcard(true);
 
+        return apiParser;
+    }
+
+    private QueryParser createPageParser() {
         QueryParser pageParser = new MultiFieldQueryParser(new String[]{
                 "name",
                 "content"
@@ -91,10 +104,15 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
         pageParser.setFuzzyMinSim(0.6f);
         pageParser.setAllowLeadingWildcard(true);
 
+        return pageParser;
+    }
+
+    @Override
+    public SearchResult search(io.gravitee.rest.api.service.search.query.Query query) throws TechnicalException {
         try {
             String inputQuery = QueryParserBase.escape(query.getQuery());
-            Query parse = apiParser.parse(inputQuery);
-            Query parsePage = pageParser.parse(inputQuery);
+            Query parse = apiParsers.get().parse(inputQuery);
+            Query parsePage = pageParsers.get().parse(inputQuery);
 
             Query apisFilter = getApisFilter(FIELD_ID, query.getFilters());
 
@@ -103,15 +121,22 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
             BooleanQuery.Builder apiFieldsQuery = new BooleanQuery.Builder();
 
             apiFieldsQuery.add(parse, BooleanClause.Occur.SHOULD);
-            apiFieldsQuery.add(new WildcardQuery(new Term("name", '*' + query.getQuery() + '*')), BooleanClause.Occur.SHOULD);
-            apiFieldsQuery.add(new WildcardQuery(new Term("name_lowercase", '*' + query.getQuery().toLowerCase() + '*')), BooleanClause.Occur.SHOULD);
-            apiFieldsQuery.add(new WildcardQuery(new Term("paths", '*' + query.getQuery() + '*')), BooleanClause.Occur.SHOULD);
-            apiFieldsQuery.add(new WildcardQuery(new Term("hosts", '*' + query.getQuery() + '*')), BooleanClause.Occur.SHOULD);
+            if (NGramFields.supports(query.getQuery())) {
+                apiFieldsQuery.add(NGramFields.substringQuery("name_ngram", query.getQuery()), BooleanClause.Occur.SHOULD);
+                apiFieldsQuery.add(NGramFields.substringQuery("paths_ngram", query.getQuery()), BooleanClause.Occur.SHOULD);
+                apiFieldsQuery.add(NGramFields.substringQuery("hosts_ngram", query.getQuery()), BooleanClause.Occur.SHOULD);
+            } else {
+                // Too short to be searched through n-grams
+                apiFieldsQuery.add(new WildcardQuery(new Term("name", '*' + query.getQuery() + '*')), BooleanClause.Occur.SHOULD);
+                apiFieldsQuery.add(new WildcardQuery(new Term("name_lowercase", '*' + query.getQuery().toLowerCase() + '*')), BooleanClause.Occur.SHOULD);
+                apiFieldsQuery.add(new WildcardQuery(new Term("paths", '*' + query.getQuery() + '*')), BooleanClause.Occur.SHOULD);
+                apiFieldsQuery.add(new WildcardQuery(new Term("hosts", '*' + query.getQuery() + '*')), BooleanClause.Occur.SHOULD);
+            }
 
             apiQuery.add(apiFieldsQuery.build(), BooleanClause.Occur.MUST);
             apiQuery.add(new TermQuery(new Term(FIELD_TYPE, FIELD_API_TYPE_VALUE)), BooleanClause.Occur.MUST);
             if (apisFilter != null) {
-                apiQuery.add(apisFilter, BooleanClause.Occur.MUST);
+                apiQuery.add(apisFilter, BooleanClause.Occur.FILTER);
             }
 
             // Search in page fields
@@ -121,7 +146,7 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
 
             apisFilter = getApisFilter(FIELD_API_TYPE_VALUE, query.getFilters());
             if (apisFilter != null) {
-                pageQuery.add(apisFilter, BooleanClause.Occur.MUST);
+                pageQuery.add(apisFilter, BooleanClause.Occur.FILTER);
             } else {
                 pageQuery.add(new DocValuesFieldExistsQuery(FIELD_API_TYPE_VALUE), BooleanClause.Occur.MUST);
             }
@@ -158,16 +183,17 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
         }
     }
 
+    /**
+     * The visible APIs are filtered with a single term set query instead of a boolean clause per API. As a non-scoring
+     * clause, its matching documents are cached as a bitset by the searcher query cache.
+     */
     private Query getApisFilter(String field, Map<String, Object> filters) {
         Object filter = filters.get(FIELD_API_TYPE_VALUE);
         if (filter != null) {
-            BooleanQuery.Builder filterApisQuery = new BooleanQuery.Builder();
-
-            ((Collection)filter)
+            return new TermInSetQuery(field, ((Collection<?>) filter)
                     .stream()
-                    .forEach(value1 -> filterApisQuery.add(new TermQuery(new Term(field, (String) value1)), BooleanClause.Occur.SHOULD));
-
-            return filterApisQuery.build();
+                    .map(value -> new BytesRef((String) value))
+                    .collect(Collectors.toList()));
         }
 
         return null;
@@ -179,12 +205,13 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
     }
 
     @Override
-    protected String getReference(Document document) {
-        String type = document.get(FIELD_TYPE);
+    protected String getReference(LeafReader reader, int docId) throws IOException {
+        String type = getDocValue(reader, docId, FIELD_TYPE);
         if (FIELD_API_TYPE_VALUE.equals(type)) {
-            return document.get(FIELD_ID);
+            return super.getReference(reader, docId);
         } else if (FIELD_PAGE_TYPE_VALUE.equals(type)) {
-            return document.get(FIELD_API_TYPE_VALUE);
+            // Matching pages are referencing the API they belong to, portal pages are not referencing any API
+            return getDocValue(reader, docId, FIELD_API_TYPE_VALUE);
         }
 
         return null;
@@ -19,7 +19,9 @@ import io.gravitee.definition.model.VirtualHost;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
+import io.gravitee.rest.api.service.impl.search.lucene.analyzer.NGramFields;
 import org.apache.lucene.document.*;
+import org.apache.lucene.util.BytesRef;
 import org.springframework.stereotype.Component;
 
 import java.util.function.Consumer;
@@ -37,6 +39,7 @@ public class ApiDocumentTransformer implements DocumentTransformer<ApiEntity> {
     private final static String FIELD_NAME = "name";
     private final static String FIELD_NAME_LOWERCASE = "name_lowercase";
     private final static String FIELD_NAME_SPLIT = "name_split";
+    private final static String FIELD_NAME_NGRAM = "name_ngram";
     private final static String FIELD_DESCRIPTION = "description";
     private final static String FIELD_OWNER = "ownerName";
     private final static String FIELD_OWNER_MAIL = "ownerMail";
@@ -48,17 +51,23 @@ public class ApiDocumentTransformer implements DocumentTransformer<ApiEntity> {
     private final static String FIELD_HOSTS = "hosts";
     private final static String FIELD_PATHS_SPLIT = "paths_split";
     private final static String FIELD_HOSTS_SPLIT = "hosts_split";
+    private final static String FIELD_PATHS_NGRAM = "paths_ngram";
+    private final static String FIELD_HOSTS_NGRAM = "hosts_ngram";
     private final static String FIELD_TAGS = "tags";
+    private final static String FIELD_VERSION = "version";
 
     @Override
     public Document transform(io.gravitee.rest.api.model.api.ApiEntity api) {
         Document doc = new Document();
 
         doc.add(new StringField(FIELD_ID, api.getId(), Field.Store.YES));
+        doc.add(new SortedDocValuesField(FIELD_ID, new BytesRef(api.getId())));
         doc.add(new StringField(FIELD_TYPE, FIELD_TYPE_VALUE, Field.Store.YES));
+        doc.add(new SortedDocValuesField(FIELD_TYPE, new BytesRef(FIELD_TYPE_VALUE)));
         doc.add(new StringField(FIELD_NAME, api.getName(), Field.Store.NO));
         doc.add(new StringField(FIELD_NAME_LOWERCASE, api.getName().toLowerCase(), Field.Store.NO));
         doc.add(new TextField(FIELD_NAME_SPLIT, api.getName(), Field.Store.NO));
+        doc.add(new TextField(FIELD_NAME_NGRAM, NGramFields.tokenStream(api.getName())));
         doc.add(new TextField(FIELD_DESCRIPTION, api.getDescription(), Field.Store.NO));
         doc.add(new TextField(FIELD_OWNER, api.getPrimaryOwner().getDisplayName(), Field.Store.NO));
         if (api.getPrimaryOwner().getEmail() != null) {
@@ -70,10 +79,12 @@ public class ApiDocumentTransformer implements DocumentTransformer<ApiEntity> {
             public void accept(VirtualHost virtualHost) {
                 doc.add(new StringField(FIELD_PATHS, virtualHost.getPath(), Field.Store.NO));
                 doc.add(new TextField(FIELD_PATHS_SPLIT, virtualHost.getPath(), Field.Store.NO));
+                doc.add(new TextField(FIELD_PATHS_NGRAM, NGramFields.tokenStream(virtualHost.getPath())));
 
                 if (virtualHost.getHost() != null && !virtualHost.getHost().isEmpty()) {
                     doc.add(new StringField(FIELD_HOSTS, virtualHost.getHost(), Field.Store.NO));
                     doc.add(new TextField(FIELD_HOSTS_SPLIT, virtualHost.getHost(), Field.Store.NO));
+                    doc.add(new TextField(FIELD_HOSTS_NGRAM, NGramFields.tokenStream(virtualHost.getHost())));
                 }
             }
         });
@@ -101,6 +112,7 @@ public class ApiDocumentTransformer implements DocumentTransformer<ApiEntity> {
 
         doc.add(new LongPoint(FIELD_CREATED_AT, api.getCreatedAt().getTime()));
         doc.add(new LongPoint(FIELD_UPDATED_AT, api.getUpdatedAt().getTime()));
+        doc.add(new StoredField(FIELD_VERSION, api.getUpdatedAt().getTime()));
 
         return doc;
     }
@@ -21,8 +21,11 @@ import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.util.BytesRef;
 import org.springframework.stereotype.Component;
 
 /**
@@ -38,13 +41,16 @@ public class PageDocumentTransformer implements DocumentTransformer<PageEntity>
     private final static String FIELD_TYPE_VALUE = "page";
     private final static String FIELD_NAME = "name";
     private final static String FIELD_CONTENT = "content";
+    private final static String FIELD_VERSION = "version";
 
     @Override
     public Document transform(PageEntity page) {
         Document doc = new Document();
 
         doc.add(new StringField(FIELD_ID, page.getId(), Field.Store.YES));
+        doc.add(new SortedDocValuesField(FIELD_ID, new BytesRef(page.getId())));
         doc.add(new StringField(FIELD_TYPE, FIELD_TYPE_VALUE, Field.Store.YES));
+        doc.add(new SortedDocValuesField(FIELD_TYPE, new BytesRef(FIELD_TYPE_VALUE)));
         doc.add(new TextField(FIELD_NAME, page.getName(), Field.Store.NO));
 
         if (page.getContent() != null) {
@@ -53,6 +59,11 @@ public class PageDocumentTransformer implements DocumentTransformer<PageEntity>
 
         if (page instanceof ApiPageEntity) {
             doc.add(new StringField(FIELD_API, ((ApiPageEntity)page).getApi(), Field.Store.YES));
+            doc.add(new SortedDocValuesField(FIELD_API, new BytesRef(((ApiPageEntity)page).getApi())));
+        }
+
+        if (page.getLastModificationDate() != null) {
+            doc.add(new StoredField(FIELD_VERSION, page.getLastModificationDate().getTime()));
         }
 
         return doc;
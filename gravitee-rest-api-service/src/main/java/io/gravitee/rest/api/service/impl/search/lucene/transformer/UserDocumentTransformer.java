@@ -20,8 +20,11 @@ import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.util.BytesRef;
 import org.springframework.stereotype.Component;
 
 /**
@@ -41,12 +44,14 @@ public class UserDocumentTransformer implements DocumentTransformer<UserEntity>
     private final static String FIELD_EMAIL = "email";
     private final static String FIELD_SOURCE = "source";
     private final static String FIELD_REFERENCE = "reference";
+    private final static String FIELD_VERSION = "version";
 
     @Override
     public Document transform(UserEntity user) {
         Document doc = new Document();
 
         doc.add(new StringField(FIELD_ID, user.getId(), Field.Store.YES));
+        doc.add(new SortedDocValuesField(FIELD_ID, new BytesRef(user.getId())));
         doc.add(new StringField(FIELD_TYPE, FIELD_TYPE_VALUE, Field.Store.YES));
         doc.add(new StringField(FIELD_SOURCE, user.getSource(), Field.Store.NO));
         doc.add(new StringField(FIELD_REFERENCE, user.getSourceId(), Field.Store.NO));
@@ -67,6 +72,10 @@ public class UserDocumentTransformer implements DocumentTransformer<UserEntity>
             doc.add(new StringField(FIELD_EMAIL, user.getEmail(), Field.Store.NO));
         }
 
+        if (user.getUpdatedAt() != null) {
+            doc.add(new StoredField(FIELD_VERSION, user.getUpdatedAt().getTime()));
+        }
+
         return doc;
     }
 
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.swagger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+
+/**
+ * Version of a Swagger / OpenAPI descriptor, detected by streaming over its top-level keys only
+ * (<code>swaggerVersion</code> for 1.x, <code>swagger</code> for 2.0 and <code>openapi</code> for 3.x) so that the
+ * descriptor can be handed to the right parser directly.
+ *
+ * @author GraviteeSource Team
+ */
+public enum SwaggerDescriptorVersion {
+
+    V1, V2, V3, UNKNOWN;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JsonFactory YAML_FACTORY = new YAMLFactory();
+
+    public static SwaggerDescriptorVersion detect(String content) {
+        if (content == null) {
+            return UNKNOWN;
+        }
+
+        try (JsonParser parser = factoryFor(content).createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return UNKNOWN;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case "swaggerVersion":
+                        return V1;
+                    case "swagger":
+                        return V2;
+                    case "openapi":
+                        return V3;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (IOException ioe) {
+            // Not a JSON / YAML document, let the parsers decide
+        }
+
+        return UNKNOWN;
+    }
+
+    private static JsonFactory factoryFor(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            final char c = content.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return (c == '{') ? JSON_FACTORY : YAML_FACTORY;
+            }
+        }
+        return JSON_FACTORY;
+    }
+}
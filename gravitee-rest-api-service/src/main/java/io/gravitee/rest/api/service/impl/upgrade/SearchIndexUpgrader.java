@@ -30,11 +30,16 @@ import io.gravitee.rest.api.service.Upgrader;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -45,6 +50,11 @@ import java.util.Set;
 @Component
 public class SearchIndexUpgrader implements Upgrader, Ordered {
 
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(SearchIndexUpgrader.class);
+
     @Autowired
     private ApiService apiService;
 
@@ -59,11 +69,18 @@ public class SearchIndexUpgrader implements Upgrader, Ordered {
 
     @Override
     public boolean upgrade() {
+        // When the index is persistent, only documents updated since they were indexed have to be re-indexed
+        final Map<String, Long> indexedVersions = searchEngineService.findIndexedVersions();
+        final Set<String> staleDocuments = new HashSet<>(indexedVersions.keySet());
+
         // Index APIs
         Set<ApiEntity> apis = apiService.findAll();
         apis.forEach(apiEntity -> {
             // API
-            searchEngineService.index(apiEntity, true);
+            staleDocuments.remove(apiEntity.getId());
+            if (!isUpToDate(indexedVersions, apiEntity.getId(), apiEntity.getUpdatedAt())) {
+                searchEngineService.index(apiEntity, true);
+            }
 
             // Pages
             List<PageEntity> apiPages = pageService.search(new PageQuery.Builder().api(apiEntity.getId()).published(true).build());
@@ -71,6 +88,10 @@ public class SearchIndexUpgrader implements Upgrader, Ordered {
                 try {
                     if (!PageType.FOLDER.name().equals(page.getType())
                             && !PageType.ROOT.name().equals(page.getType())) {
+                        staleDocuments.remove(page.getId());
+                        if (isUpToDate(indexedVersions, page.getId(), page.getLastModificationDate())) {
+                            return;
+                        }
                         pageService.transformSwagger(page, apiEntity.getId());
                         searchEngineService.index(page, true);
                     }
@@ -82,13 +103,29 @@ public class SearchIndexUpgrader implements Upgrader, Ordered {
         Page<UserEntity> users = userService.search(
                 new UserCriteria.Builder().statuses(UserStatus.ACTIVE).build(),
                 new PageableImpl(1, Integer.MAX_VALUE));
-        users.getContent().forEach(userEntity ->
-                searchEngineService.index(userEntity, true)
-        );
+        users.getContent().forEach(userEntity -> {
+            staleDocuments.remove(userEntity.getId());
+            if (!isUpToDate(indexedVersions, userEntity.getId(), userEntity.getUpdatedAt())) {
+                searchEngineService.index(userEntity, true);
+            }
+        });
+
+        // Remove documents whose entity no longer exists
+        if (!staleDocuments.isEmpty()) {
+            logger.info("Removing {} stale documents from the search index", staleDocuments.size());
+            searchEngineService.deleteLocally(staleDocuments);
+        }
+
+        logger.info("Search index is up to date ({} documents already indexed)", indexedVersions.size());
 
         return true;
     }
 
+    private boolean isUpToDate(Map<String, Long> indexedVersions, String id, Date updatedAt) {
+        Long indexedVersion = indexedVersions.get(id);
+        return indexedVersion != null && updatedAt != null && indexedVersion == updatedAt.getTime();
+    }
+
     @Override
     public int getOrder() {
         return 250;
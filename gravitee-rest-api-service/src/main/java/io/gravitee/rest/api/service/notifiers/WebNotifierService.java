@@ -16,15 +16,15 @@
 package io.gravitee.rest.api.service.notifiers;
 
 import io.gravitee.common.http.HttpMethod;
-import io.gravitee.repository.management.model.GenericNotificationConfig;
-import io.gravitee.rest.api.service.notification.Hook;
+import io.vertx.core.buffer.Buffer;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
  * @author GraviteeSource Team
  */
 public interface WebNotifierService {
-    void request(HttpMethod method, final String uri, final Map<String, String> headers, String body, boolean useSystemProxy);
+    CompletableFuture<Buffer> request(HttpMethod method, final String uri, final Map<String, String> headers, String body, boolean useSystemProxy);
 }
@@ -15,7 +15,6 @@
  */
 package io.gravitee.rest.api.service.notifiers.impl;
 
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.gravitee.repository.management.model.GenericNotificationConfig;
@@ -23,6 +22,7 @@ import io.gravitee.rest.api.model.ApiModelEntity;
 import io.gravitee.rest.api.model.PlanEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.EmailService;
+import io.gravitee.rest.api.service.TemplateService;
 import io.gravitee.rest.api.service.builder.EmailNotificationBuilder;
 import io.gravitee.rest.api.service.notification.*;
 import io.gravitee.rest.api.service.notifiers.EmailNotifierService;
@@ -53,7 +53,7 @@ public class EmailNotifierServiceImpl implements EmailNotifierService {
     EmailService emailService;
 
     @Autowired
-    private Configuration freemarkerConfiguration;
+    private TemplateService templateService;
 
     @Override
     public void trigger(final Hook hook, GenericNotificationConfig genericNotificationConfig, final Map<String, Object> params) {
@@ -83,7 +83,7 @@ public class EmailNotifierServiceImpl implements EmailNotifierService {
             if(!mail.isEmpty()) {
                 if(mail.contains("$")) {
                     try {
-                        final Template template = new Template(mail, mail, freemarkerConfiguration);
+                        final Template template = templateService.getTemplate(mail, mail);
                         String tmpMail = FreeMarkerTemplateUtils.processTemplateIntoString(template, params);
                         if(!tmpMail.isEmpty()) {
                             mail = tmpMail;
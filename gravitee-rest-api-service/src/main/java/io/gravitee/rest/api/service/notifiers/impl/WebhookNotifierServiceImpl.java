@@ -57,7 +57,12 @@ public class WebhookNotifierServiceImpl implements WebhookNotifierService {
         headers.put("X-Gravitee-Event", hook.name());
         headers.put("X-Gravitee-Event-Scope", hook.getScope().name());
 
-        webNotifierService.request(HttpMethod.POST, genericNotificationConfig.getConfig(), headers, body, genericNotificationConfig.isUseSystemProxy());
+        webNotifierService.request(HttpMethod.POST, genericNotificationConfig.getConfig(), headers, body, genericNotificationConfig.isUseSystemProxy())
+                .whenComplete((buffer, throwable) -> {
+                    if (throwable != null) {
+                        LOGGER.error("Unable to send the {} notification to {}", hook.name(), genericNotificationConfig.getConfig(), throwable);
+                    }
+                });
     }
 
     private String toJson(final Hook hook, final Map<String, Object> params) {
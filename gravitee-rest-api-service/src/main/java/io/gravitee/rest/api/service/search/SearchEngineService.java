@@ -21,6 +21,7 @@ import io.gravitee.rest.api.service.impl.search.SearchResult;
 import io.gravitee.rest.api.service.search.query.Query;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -35,4 +36,11 @@ public interface SearchEngineService {
     SearchResult search(Query<? extends Indexable> query);
 
     void process(CommandSearchIndexerEntity content);
+
+    /**
+     * @return the version (last update timestamp) of each locally indexed document, by document ID.
+     */
+    Map<String, Long> findIndexedVersions();
+
+    void deleteLocally(Collection<String> ids);
 }
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.spring;
+
+import io.gravitee.rest.api.service.spring.BoundedTaskExecutor.RejectionPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Executors used by the <code>@Async</code> methods of the services, one per kind of work so that a burst of
+ * notifications or mails can neither spawn an unbounded number of threads nor delay search indexing.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class AsyncConfiguration {
+
+    public static final String INDEXER_EXECUTOR = "indexerExecutor";
+    public static final String NOTIFIER_EXECUTOR = "notifierExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+
+    @Value("${async.indexer.corePoolSize:1}")
+    private int indexerCorePoolSize;
+    @Value("${async.indexer.maxPoolSize:2}")
+    private int indexerMaxPoolSize;
+    @Value("${async.indexer.queueCapacity:10000}")
+    private int indexerQueueCapacity;
+    @Value("${async.indexer.rejectionPolicy:CALLER_RUNS}")
+    private RejectionPolicy indexerRejectionPolicy;
+
+    @Value("${async.notifier.corePoolSize:2}")
+    private int notifierCorePoolSize;
+    @Value("${async.notifier.maxPoolSize:4}")
+    private int notifierMaxPoolSize;
+    @Value("${async.notifier.queueCapacity:1000}")
+    private int notifierQueueCapacity;
+    @Value("${async.notifier.rejectionPolicy:CALLER_RUNS}")
+    private RejectionPolicy notifierRejectionPolicy;
+
+    @Value("${async.mail.corePoolSize:2}")
+    private int mailCorePoolSize;
+    @Value("${async.mail.maxPoolSize:4}")
+    private int mailMaxPoolSize;
+    @Value("${async.mail.queueCapacity:1000}")
+    private int mailQueueCapacity;
+    @Value("${async.mail.rejectionPolicy:CALLER_RUNS}")
+    private RejectionPolicy mailRejectionPolicy;
+
+    @Bean(name = INDEXER_EXECUTOR)
+    public BoundedTaskExecutor indexerExecutor() {
+        return new BoundedTaskExecutor("indexer", indexerCorePoolSize, indexerMaxPoolSize,
+                indexerQueueCapacity, indexerRejectionPolicy);
+    }
+
+    @Bean(name = NOTIFIER_EXECUTOR)
+    public BoundedTaskExecutor notifierExecutor() {
+        return new BoundedTaskExecutor("notifier", notifierCorePoolSize, notifierMaxPoolSize,
+                notifierQueueCapacity, notifierRejectionPolicy);
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public BoundedTaskExecutor mailExecutor() {
+        return new BoundedTaskExecutor("mail", mailCorePoolSize, mailMaxPoolSize,
+                mailQueueCapacity, mailRejectionPolicy);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.spring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread pool backing one kind of <code>@Async</code> work, with a bounded queue and a rejection policy applied
+ * once both the pool and the queue are full. Queue depth, active threads and rejected tasks are exposed so that
+ * the pool can be monitored.
+ *
+ * @author GraviteeSource Team
+ */
+public class BoundedTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private final Logger logger = LoggerFactory.getLogger(BoundedTaskExecutor.class);
+
+    public enum RejectionPolicy {
+        /**
+         * The task is run by the thread which submitted it, slowing the producer down.
+         */
+        CALLER_RUNS,
+        /**
+         * The task is dropped and a warning is logged.
+         */
+        DISCARD
+    }
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public BoundedTaskExecutor(String name, int corePoolSize, int maxPoolSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+        setThreadNamePrefix("gio-" + name + "-");
+        setDaemon(true);
+        setCorePoolSize(corePoolSize);
+        setMaxPoolSize(maxPoolSize);
+        setQueueCapacity(queueCapacity);
+        setWaitForTasksToCompleteOnShutdown(true);
+        setAwaitTerminationSeconds(10);
+        setRejectedExecutionHandler(rejectedExecutionHandler(name, rejectionPolicy));
+    }
+
+    private RejectedExecutionHandler rejectedExecutionHandler(String name, RejectionPolicy rejectionPolicy) {
+        final RejectedExecutionHandler delegate = rejectionPolicy == RejectionPolicy.DISCARD ?
+                new ThreadPoolExecutor.DiscardPolicy() : new ThreadPoolExecutor.CallerRunsPolicy();
+
+        return (runnable, executor) -> {
+            rejectedCount.incrementAndGet();
+            if (rejectionPolicy == RejectionPolicy.DISCARD) {
+                logger.warn("The {} executor is saturated, a task has been discarded", name);
+            } else {
+                logger.debug("The {} executor is saturated, running the task on the caller thread", name);
+            }
+            delegate.rejectedExecution(runnable, executor);
+        };
+    }
+
+    /**
+     * @return the number of tasks waiting for a thread.
+     */
+    public int getQueueDepth() {
+        return getThreadPoolExecutor().getQueue().size();
+    }
+
+    public long getCompletedTaskCount() {
+        return getThreadPoolExecutor().getCompletedTaskCount();
+    }
+
+    /**
+     * @return the number of tasks which could not be queued because both the pool and the queue were full.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -57,6 +57,7 @@ import java.util.Collections;
 		FetcherPluginConfiguration.class, FetcherConfigurationConfiguration.class,
 		SearchEngineConfiguration.class, NotifierPluginConfiguration.class,
 		AlertPluginConfiguration.class, ServiceDiscoveryPluginConfiguration.class,
+		AsyncConfiguration.class,
 		})
 public class ServiceConfiguration {
 
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how long the Vert.x event loops are blocked.
+ *
+ * A periodic timer is set on <code>vertx.eventLoop.monitor.probes</code> contexts, which Vert.x spreads over its
+ * event loops (twice the number of processors by default). Each time a timer fires later than expected, the delay is
+ * the time its event loop was busy running something else. Delays above
+ * <code>vertx.eventLoop.monitor.warnThreshold</code> milliseconds are logged.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class EventLoopMonitor implements InitializingBean, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(EventLoopMonitor.class);
+
+    @Autowired
+    private Vertx vertx;
+
+    @Value("${vertx.eventLoop.monitor.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${vertx.eventLoop.monitor.interval:1000}")
+    private long interval = 1000;
+
+    @Value("${vertx.eventLoop.monitor.warnThreshold:200}")
+    private long warnThreshold = 200;
+
+    @Value("${vertx.eventLoop.monitor.probes:0}")
+    private int probes;
+
+    private final List<Long> timers = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong blockedTime = new AtomicLong();
+    private final AtomicLong maxBlockedTime = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        // Vert.x creates twice as many event loops as processors by default
+        final int count = probes > 0 ? probes : Runtime.getRuntime().availableProcessors() * 2;
+        for (int i = 0; i < count; i++) {
+            // Called outside of Vert.x, each context is bound to the next event loop
+            final Context context = vertx.getOrCreateContext();
+            context.runOnContext(v -> startProbe());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        timers.forEach(vertx::cancelTimer);
+        timers.clear();
+    }
+
+    private void startProbe() {
+        final long[] lastTick = {System.nanoTime()};
+        timers.add(vertx.setPeriodic(interval, timerId -> {
+            final long now = System.nanoTime();
+            record(TimeUnit.NANOSECONDS.toMillis(now - lastTick[0]) - interval);
+            lastTick[0] = now;
+        }));
+    }
+
+    void record(long delay) {
+        if (delay <= 0) {
+            return;
+        }
+        blockedTime.addAndGet(delay);
+        blockedCount.incrementAndGet();
+        maxBlockedTime.accumulateAndGet(delay, Math::max);
+
+        if (delay > warnThreshold) {
+            logger.warn("Vert.x event loop {} has been blocked for {} ms", Thread.currentThread().getName(), delay);
+        }
+    }
+
+    /**
+     * @return the total time, in milliseconds, the event loops have been blocked since the startup.
+     */
+    public long getBlockedTime() {
+        return blockedTime.get();
+    }
+
+    /**
+     * @return the longest time, in milliseconds, an event loop has been blocked since the startup.
+     */
+    public long getMaxBlockedTime() {
+        return maxBlockedTime.get();
+    }
+
+    /**
+     * @return the number of times a probe fired later than expected.
+     */
+    public long getBlockedCount() {
+        return blockedCount.get();
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.vertx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the blocking work triggered from the Vert.x event loop (dynamic properties, dictionaries...) on a pool of
+ * worker threads, so that repository calls can not delay the other timers and HTTP callbacks.
+ *
+ * Tasks dispatched with the same key run one after another, never concurrently. A task dispatched while another one
+ * is waiting for the same key replaces it: only the latest result of a poller is applied, and the queue never holds
+ * more than one task per key.
+ *
+ * A key is registered when its poller starts and released when it stops. A poller may still complete a request once
+ * stopped: the tasks dispatched for a key which is not registered are dropped, so that a stale result is never applied.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class WorkerDispatcher implements InitializingBean, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(WorkerDispatcher.class);
+
+    @Value("${vertx.worker.poolSize:4}")
+    private int poolSize = 4;
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong replacedCount = new AtomicLong();
+
+    private ThreadPoolExecutor executor;
+
+    @Override
+    public void afterPropertiesSet() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        // The queue holds at most one task per key
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gio-vertx-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Accepts the tasks dispatched for the given key, until it is released.
+     */
+    public void register(String key) {
+        slots.computeIfAbsent(key, k -> new Slot());
+    }
+
+    /**
+     * Runs the task on a worker thread, after the task currently running for the same key if any. The task is dropped
+     * if the key is not registered.
+     */
+    public void dispatch(String key, Runnable task) {
+        final Slot slot = slots.get(key);
+        if (slot == null) {
+            logger.debug("{} has been released, the task has been dropped", key);
+            return;
+        }
+        if (slot.pending.getAndSet(task) != null) {
+            replacedCount.incrementAndGet();
+            logger.debug("A task was still waiting for {}, it has been replaced", key);
+        }
+        schedule(key, slot);
+    }
+
+    /**
+     * Forgets the given key, once its poller has been stopped. A task already running is not interrupted.
+     */
+    public void release(String key) {
+        final Slot slot = slots.remove(key);
+        if (slot != null) {
+            slot.released = true;
+            slot.pending.set(null);
+        }
+    }
+
+    /**
+     * @return the number of keys having a task waiting for a worker thread.
+     */
+    public int getQueueDepth() {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * @return the number of tasks which have been replaced by a newer one before being run.
+     */
+    public long getReplacedTaskCount() {
+        return replacedCount.get();
+    }
+
+    private void schedule(String key, Slot slot) {
+        if (slot.pending.get() != null && slot.scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> run(key, slot));
+            } catch (RejectedExecutionException ree) {
+                slot.scheduled.set(false);
+                logger.warn("Worker pool is stopped, the task for {} has been dropped", key);
+            }
+        }
+    }
+
+    private void run(String key, Slot slot) {
+        try {
+            final Runnable task = slot.pending.getAndSet(null);
+            // The task may have been dispatched while the key was being released
+            if (task != null && !slot.released) {
+                task.run();
+                completedCount.incrementAndGet();
+            }
+        } catch (Exception ex) {
+            logger.error("Unexpected error while running the task for {}", key, ex);
+        } finally {
+            slot.scheduled.set(false);
+            // A task may have been dispatched while this one was running
+            schedule(key, slot);
+        }
+    }
+
+    private static class Slot {
+        private final AtomicReference<Runnable> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean released;
+    }
+}
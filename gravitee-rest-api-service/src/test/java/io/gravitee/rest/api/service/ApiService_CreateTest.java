@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
@@ -93,6 +94,8 @@ public class ApiService_CreateTest {
 
     @Mock
     private VirtualHostService virtualHostService;
+    @Mock
+    private EventManager eventManager;
 
     @Before
     public void init() {
@@ -18,6 +18,7 @@ package io.gravitee.rest.api.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.rest.api.idp.api.identity.SearchableUser;
 import io.gravitee.rest.api.model.MemberEntity;
@@ -100,6 +101,8 @@ public class ApiService_CreateWithDefinitionTest {
 
     @Mock
     private  GenericNotificationConfigService  genericNotificationConfigService;
+    @Mock
+    private EventManager eventManager;
 
     @Before
     public void init() {
@@ -18,6 +18,7 @@ package io.gravitee.rest.api.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.PropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiQualityRuleRepository;
@@ -84,6 +85,8 @@ public class ApiService_DeleteTest {
     private AlertService alertService;
     @Mock
     private ApiQualityRuleRepository apiQualityRuleRepository;
+    @Mock
+    private EventManager eventManager;
 
     @Before
     public void setUp() {
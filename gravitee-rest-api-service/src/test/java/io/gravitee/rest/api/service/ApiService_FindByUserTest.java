@@ -15,17 +15,20 @@
  */
 package io.gravitee.rest.api.service;
 
-import static io.gravitee.repository.management.model.Visibility.PUBLIC;
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.Before;
@@ -49,7 +52,11 @@ import io.gravitee.repository.management.model.Api;
 import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
+import io.gravitee.repository.management.model.Visibility;
+import io.gravitee.rest.api.model.WorkflowReferenceType;
+import io.gravitee.rest.api.model.WorkflowType;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.ParameterService;
 import io.gravitee.rest.api.service.UserService;
@@ -80,6 +87,10 @@ public class ApiService_FindByUserTest {
     private UserService userService;
     @Mock
     private ParameterService parameterService;
+    @Mock
+    private ApiVisibilityService apiVisibilityService;
+    @Mock
+    private WorkflowService workflowService;
 
     @Before
     public void setUp() {
@@ -89,14 +100,9 @@ public class ApiService_FindByUserTest {
 
     @Test
     public void shouldFindByUser() throws TechnicalException {
-        when(apiRepository.search(new ApiCriteria.Builder().environment("DEFAULT").visibility(PUBLIC).build())).thenReturn(singletonList(api));
-        when(apiRepository.search(new ApiCriteria.Builder().environment("DEFAULT").ids(api.getId()).build())).thenReturn(singletonList(api));
-
-        Membership membership = new Membership(USER_NAME, api.getId(), MembershipReferenceType.API);
-        membership.setRoles(Collections.singletonMap(RoleScope.API.getId(), "USER"));
-        Set<Membership> memberships = Collections.singleton(membership);
-        when(membershipRepository.findByUserAndReferenceType(anyString(), any(MembershipReferenceType.class)))
-                .thenReturn(memberships);
+        when(apiVisibilityService.findMemberApiIds(USER_NAME)).thenReturn(singleton(API_ID));
+        when(apiRepository.search(new ApiCriteria.Builder().environment("DEFAULT").ids(API_ID).build())).thenReturn(singletonList(api));
+
         Membership po = new Membership(USER_NAME, API_ID, MembershipReferenceType.API);
         po.setRoles(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
         when(membershipRepository.findByReferencesAndRole(any(), any(), any(), any()))
@@ -108,11 +114,55 @@ public class ApiService_FindByUserTest {
         assertEquals(1, apiEntities.size());
     }
 
+    @Test
+    public void shouldFindReviewWorkflowsOnceForAllApis() throws TechnicalException {
+        when(parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)).thenReturn(true);
+        when(apiVisibilityService.findMemberApiIds(USER_NAME)).thenReturn(singleton("other-api"));
+        final Api otherApi = new Api();
+        otherApi.setId("other-api");
+        final Api firstApi = new Api();
+        firstApi.setId(API_ID);
+        when(apiRepository.search(new ApiCriteria.Builder().environment("DEFAULT").visibility(Visibility.PUBLIC).build()))
+                .thenReturn(singletonList(firstApi));
+        when(apiRepository.search(new ApiCriteria.Builder().environment("DEFAULT").ids("other-api").build()))
+                .thenReturn(singletonList(otherApi));
+
+        Membership po = new Membership(USER_NAME, API_ID, MembershipReferenceType.API);
+        po.setRoles(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
+        Membership otherPo = new Membership(USER_NAME, "other-api", MembershipReferenceType.API);
+        otherPo.setRoles(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
+        when(membershipRepository.findByReferencesAndRole(any(), any(), any(), any()))
+                .thenReturn(new HashSet<>(Arrays.asList(po, otherPo)));
+
+        final Set<ApiEntity> apiEntities = apiService.findByUser(USER_NAME, null);
+
+        assertEquals(2, apiEntities.size());
+        verify(parameterService, times(1)).findAsBoolean(Key.API_REVIEW_ENABLED);
+        verify(workflowService, times(1)).findByEachReferenceAndType(eq(WorkflowReferenceType.API), anyCollection(), eq(WorkflowType.REVIEW));
+        verify(workflowService, never()).findByReferenceAndType(any(), any(), any());
+    }
+
+    @Test
+    public void shouldNotSearchPublicApisByIds() throws TechnicalException {
+        final Api publicApi = new Api();
+        publicApi.setId(API_ID);
+        when(apiRepository.search(new ApiCriteria.Builder().environment("DEFAULT").visibility(Visibility.PUBLIC).build()))
+                .thenReturn(singletonList(publicApi));
+        when(apiVisibilityService.findMemberApiIds(USER_NAME)).thenReturn(singleton(API_ID));
+        Membership po = new Membership(USER_NAME, API_ID, MembershipReferenceType.API);
+        po.setRoles(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
+        when(membershipRepository.findByReferencesAndRole(any(), any(), any(), any()))
+                .thenReturn(Collections.singleton(po));
+
+        final Set<ApiEntity> apiEntities = apiService.findByUser(USER_NAME, null);
+
+        assertEquals(1, apiEntities.size());
+        verify(apiRepository, times(1)).search(any(ApiCriteria.class));
+    }
+
     @Test
     public void shouldNotFindByUserBecauseNotExists() throws TechnicalException {
-        when(apiRepository.search(new ApiCriteria.Builder().environment("DEFAULT").visibility(PUBLIC).build())).thenReturn(emptyList());
-        when(membershipRepository.findByUserAndReferenceType(anyString(), any(MembershipReferenceType.class)))
-                .thenReturn(Collections.emptySet());
+        when(apiVisibilityService.findMemberApiIds(USER_NAME)).thenReturn(emptySet());
 
         final Set<ApiEntity> apiEntities = apiService.findByUser(USER_NAME, null);
 
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import io.gravitee.rest.api.service.exceptions.ApiNotFoundException;
+import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import io.gravitee.rest.api.service.impl.cache.PictureCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_GetPictureTest {
+
+    private static final String API_ID = "id-api";
+    private static final byte[] PICTURE = "picture".getBytes();
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Spy
+    private PictureCache pictureCache = new PictureCache();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        pictureCache.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldGetPictureWithoutLoadingTheApi() throws TechnicalException {
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setPicture("data:image/gif;base64," + Base64.getEncoder().encodeToString(PICTURE));
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api));
+
+        final InlinePictureEntity picture = apiService.getPicture(API_ID);
+
+        assertEquals("image/gif", picture.getType());
+        assertArrayEquals(PICTURE, picture.getContent());
+        assertEquals(32, picture.getHash().length());
+        verify(apiRepository, never()).findById(anyString());
+    }
+
+    @Test
+    public void shouldDecodePictureOnlyOnce() throws TechnicalException {
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setPicture("data:image/gif;base64," + Base64.getEncoder().encodeToString(PICTURE));
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api));
+
+        final InlinePictureEntity picture = apiService.getPicture(API_ID);
+
+        assertSame(picture, apiService.getPicture(API_ID));
+
+        api.setPicture("data:image/png;base64," + Base64.getEncoder().encodeToString("updated".getBytes()));
+        final InlinePictureEntity updatedPicture = apiService.getPicture(API_ID);
+
+        assertEquals("image/png", updatedPicture.getType());
+        assertNotEquals(picture.getHash(), updatedPicture.getHash());
+    }
+
+    @Test
+    public void shouldNotKeepPicturesAboveMaxSize() throws TechnicalException {
+        ReflectionTestUtils.setField(pictureCache, "maxSize", 0L);
+        pictureCache.afterPropertiesSet();
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setPicture("data:image/gif;base64," + Base64.getEncoder().encodeToString(PICTURE));
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api));
+
+        final InlinePictureEntity picture = apiService.getPicture(API_ID);
+
+        assertNotSame(picture, apiService.getPicture(API_ID));
+    }
+
+    @Test
+    public void shouldReadDefaultPictureOnlyOnce()throws Exception {
+        File defaultIcon = temporaryFolder.newFile("default_api_logo.png");
+        Files.write(defaultIcon.toPath(), PICTURE);
+        ReflectionTestUtils.setField(apiService, "defaultIcon", defaultIcon.getAbsolutePath());
+        Api api = new Api();
+        api.setId(API_ID);
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api));
+
+        assertArrayEquals(PICTURE, apiService.getPicture(API_ID).getContent());
+
+        assertTrue(defaultIcon.delete());
+        assertArrayEquals(PICTURE, apiService.getPicture(API_ID).getContent());
+        assertArrayEquals(PICTURE, apiService.getDefaultPicture());
+    }
+
+    @Test(expected = ApiNotFoundException.class)
+    public void shouldNotGetPictureBecauseNotExists() throws TechnicalException {
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.emptyList());
+
+        apiService.getPicture(API_ID);
+    }
+}
@@ -18,6 +18,7 @@ package io.gravitee.rest.api.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.PropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.definition.model.Endpoint;
 import io.gravitee.definition.model.EndpointGroup;
@@ -100,6 +101,8 @@ public class ApiService_UpdateTest {
     private WorkflowService workflowService;
     @Mock
     private VirtualHostService virtualHostService;
+    @Mock
+    private EventManager eventManager;
 
     @Before
     public void setUp() {
@@ -18,6 +18,7 @@ package io.gravitee.rest.api.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
@@ -90,6 +91,8 @@ public class ApiService_UpdateWithDefinitionTest {
     private ParameterService parameterService;
     @Mock
     private VirtualHostService virtualHostService;
+    @Mock
+    private EventManager eventManager;
 
     @Before
     public void init() {
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.PropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.definition.model.Logging;
 import io.gravitee.definition.model.LoggingMode;
@@ -99,6 +100,8 @@ public class ApiService_Update_DefaultLoggingMaxDurationTest {
 
     @Mock
     private VirtualHostService virtualHostService;
+    @Mock
+    private EventManager eventManager;
 
     @Before
     public void setUp()  throws TechnicalException {
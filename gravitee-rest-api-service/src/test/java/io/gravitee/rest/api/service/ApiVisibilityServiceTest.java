@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.rest.api.service.event.ApiVisibilityEvent;
+import io.gravitee.rest.api.service.impl.ApiVisibilityServiceImpl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Set;
+
+import static io.gravitee.repository.management.model.Visibility.PUBLIC;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiVisibilityServiceTest {
+
+    private static final String USER_NAME = "myUser";
+    private static final String PUBLIC_API_ID = "public-api";
+    private static final String MEMBER_API_ID = "member-api";
+
+    @InjectMocks
+    private ApiVisibilityServiceImpl apiVisibilityService = new ApiVisibilityServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+    @Mock
+    private MembershipRepository membershipRepository;
+    @Mock
+    private EventManager eventManager;
+
+    @Before
+    public void setUp() throws TechnicalException {
+        setField(apiVisibilityService, "cacheTtl", 60L);
+        setField(apiVisibilityService, "cacheSize", 100L);
+        apiVisibilityService.afterPropertiesSet();
+
+        final Api publicApi = new Api();
+        publicApi.setId(PUBLIC_API_ID);
+        final Api memberApi = new Api();
+        memberApi.setId(MEMBER_API_ID);
+
+        when(apiRepository.search(eq(new ApiCriteria.Builder().environment("DEFAULT").visibility(PUBLIC).build()),
+                any(ApiFieldExclusionFilter.class))).thenReturn(singletonList(publicApi));
+        when(apiRepository.search(eq(new ApiCriteria.Builder().environment("DEFAULT").ids(MEMBER_API_ID).build()),
+                any(ApiFieldExclusionFilter.class))).thenReturn(singletonList(memberApi));
+        when(membershipRepository.findByUserAndReferenceType(USER_NAME, MembershipReferenceType.API))
+                .thenReturn(singleton(new Membership(USER_NAME, MEMBER_API_ID, MembershipReferenceType.API)));
+        when(membershipRepository.findByUserAndReferenceType(USER_NAME, MembershipReferenceType.GROUP))
+                .thenReturn(emptySet());
+    }
+
+    @Test
+    public void shouldFindVisibleApiIdsOnce() throws TechnicalException {
+        apiVisibilityService.findVisibleApiIds(USER_NAME);
+        final Set<String> apiIds = apiVisibilityService.findVisibleApiIds(USER_NAME);
+
+        assertEquals(2, apiIds.size());
+        assertTrue(apiIds.contains(PUBLIC_API_ID));
+        assertTrue(apiIds.contains(MEMBER_API_ID));
+        verify(membershipRepository, times(1)).findByUserAndReferenceType(USER_NAME, MembershipReferenceType.API);
+    }
+
+    @Test
+    public void shouldSharePublicApiIdsBetweenUsers() throws TechnicalException {
+        apiVisibilityService.findVisibleApiIds(USER_NAME);
+        final Set<String> apiIds = apiVisibilityService.findVisibleApiIds(null);
+
+        assertEquals(singleton(PUBLIC_API_ID), apiIds);
+        assertEquals(singleton(MEMBER_API_ID), apiVisibilityService.findMemberApiIds(USER_NAME));
+        verify(apiRepository, times(1)).search(eq(new ApiCriteria.Builder().environment("DEFAULT").visibility(PUBLIC).build()),
+                any(ApiFieldExclusionFilter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReloadVisibleApiIdsAfterMembershipEvent() throws TechnicalException {
+        apiVisibilityService.findVisibleApiIds(USER_NAME);
+
+        final Event<ApiVisibilityEvent, String> event = mock(Event.class);
+        when(event.type()).thenReturn(ApiVisibilityEvent.MEMBERSHIP);
+        when(event.content()).thenReturn(USER_NAME);
+        apiVisibilityService.onEvent(event);
+
+        apiVisibilityService.findVisibleApiIds(USER_NAME);
+
+        verify(membershipRepository, times(2)).findByUserAndReferenceType(USER_NAME, MembershipReferenceType.API);
+        verify(apiRepository, times(1)).search(eq(new ApiCriteria.Builder().environment("DEFAULT").visibility(PUBLIC).build()),
+                any(ApiFieldExclusionFilter.class));
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Audit;
+import io.gravitee.rest.api.service.impl.audit.AuditWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditWriterTest {
+
+    @InjectMocks
+    private AuditWriter auditWriter = new AuditWriter();
+
+    @Mock
+    private AuditRepository auditRepository;
+
+    @Spy
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(auditWriter, "queueSize", 10);
+        ReflectionTestUtils.setField(auditWriter, "batchSize", 5);
+        ReflectionTestUtils.setField(auditWriter, "offerTimeout", 1000L);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        auditWriter.destroy();
+    }
+
+    @Test
+    public void shouldWriteAuditWithPatch() throws Exception {
+        auditWriter.afterPropertiesSet();
+
+        auditWriter.write(audit("audit"), null, Collections.singletonMap("name", "my-api"));
+
+        ArgumentCaptor<Audit> captor = ArgumentCaptor.forClass(Audit.class);
+        verify(auditRepository, timeout(5000)).create(captor.capture());
+        assertEquals("audit", captor.getValue().getId());
+        assertNotNull(captor.getValue().getPatch());
+        assertEquals("[{\"op\":\"add\",\"path\":\"/name\",\"value\":\"my-api\"}]", captor.getValue().getPatch());
+    }
+
+    @Test
+    public void shouldWritePendingAuditsOnShutdown() throws Exception {
+        auditWriter.afterPropertiesSet();
+
+        for (int i = 0; i < 20; i++) {
+            auditWriter.write(audit("audit-" + i), null, null);
+        }
+        auditWriter.destroy();
+
+        verify(auditRepository, times(20)).create(any());
+        assertEquals(0, auditWriter.getQueueDepth());
+        assertEquals(20, auditWriter.getWriteCount());
+    }
+
+    @Test
+    public void shouldWriteOnCallerThreadWhenNotStarted() throws TechnicalException {
+        auditWriter.write(audit("audit"), null, null);
+
+        verify(auditRepository).create(any());
+    }
+
+    @Test
+    public void shouldAuditValuesAsTheyWereWhenQueued() throws Exception {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(auditRepository.create(any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        auditWriter.afterPropertiesSet();
+
+        // The writer is kept busy so that the next audit stays in the queue
+        auditWriter.write(audit("first"), null, null);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        final Map<String, String> api = new HashMap<>();
+        api.put("name", "my-api");
+        auditWriter.write(audit("second"), null, api);
+        api.put("name", "updated-api");
+        release.countDown();
+
+        ArgumentCaptor<Audit> captor = ArgumentCaptor.forClass(Audit.class);
+        verify(auditRepository, timeout(5000).times(2)).create(captor.capture());
+        assertEquals("[{\"op\":\"add\",\"path\":\"/name\",\"value\":\"my-api\"}]", captor.getAllValues().get(1).getPatch());
+    }
+
+    private Audit audit(String id) {
+        Audit audit = new Audit();
+        audit.setId(id);
+        return audit;
+    }
+}
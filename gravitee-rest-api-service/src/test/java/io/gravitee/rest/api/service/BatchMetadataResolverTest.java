@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Application;
+import io.gravitee.repository.management.model.Plan;
+import io.gravitee.rest.api.service.impl.BatchMetadataResolver;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BatchMetadataResolverTest {
+
+    @InjectMocks
+    private BatchMetadataResolver metadataResolver = new BatchMetadataResolver();
+
+    @Mock
+    private ApiRepository apiRepository;
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private PlanRepository planRepository;
+    @Mock
+    private UserService userService;
+
+    @Test
+    public void shouldLoadEachEntityTypeOnce() throws TechnicalException {
+        Api api = new Api();
+        api.setId("api");
+        api.setName("My API");
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api));
+
+        Application app1 = new Application();
+        app1.setId("app1");
+        app1.setName("App 1");
+        Application app2 = new Application();
+        app2.setId("app2");
+        app2.setName("App 2");
+        when(applicationRepository.findByIds(anyList())).thenReturn(new HashSet<>(Arrays.asList(app1, app2)));
+
+        Plan plan1 = new Plan();
+        plan1.setId("plan1");
+        plan1.setName("Plan 1");
+        Plan plan2 = new Plan();
+        plan2.setId("plan2");
+        plan2.setName("Plan 2");
+        when(planRepository.findByApi("api")).thenReturn(new HashSet<>(Arrays.asList(plan1, plan2)));
+
+        BatchMetadataResolver.Batch batch = metadataResolver.newBatch();
+        for (String[] row : new String[][]{{"app1", "plan1"}, {"app2", "plan2"}, {"app1", "plan2"}, {"app3", "plan1"}}) {
+            batch.api("api").application(row[0]).plan(row[1], "api");
+        }
+
+        assertEquals("App 1", batch.getApplication("app1").get().getName());
+        assertEquals("App 2", batch.getApplication("app2").get().getName());
+        assertFalse(batch.getApplication("app3").isPresent());
+        assertEquals("Plan 1", batch.getPlan("plan1").get().getName());
+        assertEquals("Plan 2", batch.getPlan("plan2").get().getName());
+        assertEquals("My API", batch.getApi("api").get().getName());
+        assertEquals("My API", batch.getApi("api").get().getName());
+
+        verify(apiRepository, times(1)).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+        verify(apiRepository, never()).search(any(ApiCriteria.class));
+        verify(applicationRepository, times(1)).findByIds(anyList());
+        verify(planRepository, times(1)).findByApi("api");
+        verify(planRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldLookUpPlanWithoutApi() throws TechnicalException {
+        Plan plan = new Plan();
+        plan.setId("plan");
+        plan.setName("Plan");
+        when(planRepository.findById("plan")).thenReturn(Optional.of(plan));
+
+        BatchMetadataResolver.Batch batch = metadataResolver.newBatch();
+
+        assertEquals("Plan", batch.getPlan("plan").get().getName());
+        assertEquals("Plan", batch.getPlan("plan").get().getName());
+        verify(planRepository, times(1)).findById("plan");
+        verify(planRepository, never()).findByApi(any());
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.google.common.cache.Cache;
+import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClusteredCacheManagerTest {
+
+    @InjectMocks
+    private ClusteredCacheManager cacheManager = new ClusteredCacheManager();
+
+    @Mock
+    private CommandService commandService;
+
+    @After
+    public void tearDown() {
+        cacheManager.destroy();
+    }
+
+    @Test
+    public void shouldInvalidateLocallyAndNotifyOtherNodes() {
+        Cache<String, String> cache = cacheManager.getCache("parameters");
+        cache.put("key", "value");
+
+        cacheManager.invalidate("parameters");
+
+        assertNull(cache.getIfPresent("key"));
+        ArgumentCaptor<NewCommandEntity> captor = ArgumentCaptor.forClass(NewCommandEntity.class);
+        verify(commandService).send(captor.capture());
+        assertEquals("parameters", captor.getValue().getContent());
+        assertEquals(Collections.singletonList(CommandTags.CACHE_INVALIDATION), captor.getValue().getTags());
+    }
+
+    @Test
+    public void shouldNotifyOtherNodesInDefaultEnvironment() {
+        GraviteeContext.setCurrentEnvironment("other");
+        try {
+            doAnswer(invocation -> {
+                assertEquals(GraviteeContext.getDefaultEnvironment(), GraviteeContext.getCurrentEnvironment());
+                return null;
+            }).when(commandService).send(any());
+
+            cacheManager.invalidate("parameters");
+
+            verify(commandService).send(any());
+            assertEquals("other", GraviteeContext.getCurrentEnvironment());
+        } finally {
+            GraviteeContext.setCurrentEnvironment(GraviteeContext.getDefaultEnvironment());
+        }
+    }
+
+    @Test
+    public void shouldInvalidateLocallyWhenNotificationFails() {
+        Cache<String, String> cache = cacheManager.getCache("parameters");
+        cache.put("key", "value");
+        doThrow(new RuntimeException("unavailable")).when(commandService).send(any());
+
+        cacheManager.invalidate("parameters");
+
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void shouldInvalidateOnceTransactionIsCommitted() {
+        Cache<String, String> cache = cacheManager.getCache("parameters");
+        cache.put("key", "value");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheManager.invalidate("parameters");
+
+            assertEquals("value", cache.getIfPresent("key"));
+            verify(commandService, never()).send(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(cache.getIfPresent("key"));
+        verify(commandService).send(any());
+    }
+
+    @Test
+    public void shouldInvalidateOnCommandFromAnotherNode() {
+        Cache<String, String> roles = cacheManager.getCache("roles");
+        roles.put("key", "value");
+        Cache<String, String> tags = cacheManager.getCache("tags");
+        tags.put("key", "value");
+
+        CommandEntity command = new CommandEntity();
+        command.setId("command");
+        command.setContent("roles");
+        when(commandService.search(any())).thenReturn(Collections.singletonList(command));
+
+        ReflectionTestUtils.setField(cacheManager, "invalidationInterval", 1L);
+        cacheManager.afterPropertiesSet();
+
+        verify(commandService, timeout(5000)).ack("command");
+        verify(commandService, never()).send(any());
+        assertNull(roles.getIfPresent("key"));
+        assertEquals("value", tags.getIfPresent("key"));
+    }
+}
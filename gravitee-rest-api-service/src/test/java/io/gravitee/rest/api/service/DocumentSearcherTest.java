@@ -0,0 +1,231 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.VirtualHost;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.rest.api.model.ApiPageEntity;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PrimaryOwnerEntity;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.service.impl.search.SearchResult;
+import io.gravitee.rest.api.service.impl.search.lucene.searcher.ApiDocumentSearcher;
+import io.gravitee.rest.api.service.impl.search.lucene.searcher.UserDocumentSearcher;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.ApiDocumentTransformer;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.PageDocumentTransformer;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.UserDocumentTransformer;
+import io.gravitee.rest.api.service.search.query.QueryBuilder;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class DocumentSearcherTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    private ApiDocumentSearcher apiSearcher = new ApiDocumentSearcher();
+    private UserDocumentSearcher userSearcher = new UserDocumentSearcher();
+
+    private ApiDocumentTransformer apiTransformer = new ApiDocumentTransformer();
+    private PageDocumentTransformer pageTransformer = new PageDocumentTransformer();
+    private UserDocumentTransformer userTransformer = new UserDocumentTransformer();
+
+    @Before
+    public void setUp() throws IOException {
+        writer = new IndexWriter(FSDirectory.open(temporaryFolder.getRoot().toPath()), new IndexWriterConfig(new StandardAnalyzer()));
+        searcherManager = new SearcherManager(writer, null);
+        ReflectionTestUtils.setField(apiSearcher, "searcherManager", searcherManager);
+        ReflectionTestUtils.setField(userSearcher, "searcherManager", searcherManager);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    @Test
+    public void shouldCollectAllMatchingDocumentsWithoutPage() throws Exception {
+        for (int i = 0; i < 150; i++) {
+            index(apiTransformer.transform(api("api-" + i, "API " + i, "/api-" + i)));
+        }
+        index(apiTransformer.transform(api("other", "Other", "/other", "unrelated")));
+
+        final SearchResult result = apiSearcher.search(QueryBuilder.create(ApiEntity.class).setQuery("gateway").build());
+
+        assertEquals(150, result.getHits());
+        assertEquals(150, result.getDocuments().size());
+        assertFalse(result.getDocuments().contains("other"));
+    }
+
+    @Test
+    public void shouldCollectTopDocumentsOfRequestedPage() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            index(userTransformer.transform(user("user-" + i)));
+        }
+
+        final SearchResult firstPage = userSearcher.search(QueryBuilder.create(UserEntity.class)
+                .setQuery("john").setPage(new PageableImpl(1, 20)).build());
+        final SearchResult lastPage = userSearcher.search(QueryBuilder.create(UserEntity.class)
+                .setQuery("john").setPage(new PageableImpl(3, 20)).build());
+
+        assertEquals(50, firstPage.getHits());
+        assertEquals(20, firstPage.getDocuments().size());
+        assertEquals(50, lastPage.getHits());
+        assertEquals(10, lastPage.getDocuments().size());
+
+        final Set<String> users = new HashSet<>(firstPage.getDocuments());
+        users.retainAll(lastPage.getDocuments());
+        assertTrue(users.isEmpty());
+    }
+
+    @Test
+    public void shouldReferenceApiOfMatchingPage() throws Exception {
+        index(apiTransformer.transform(api("api-1", "Petstore", "/petstore", "animals")));
+        index(pageTransformer.transform(page("page-1", "api-1", "Getting started with the gateway")));
+
+        final SearchResult result = apiSearcher.search(QueryBuilder.create(ApiEntity.class).setQuery("started").build());
+
+        assertEquals(singletonList("api-1"), result.getDocuments());
+    }
+
+    @Test
+    public void shouldNotReferencePortalPage() throws Exception {
+        index(pageTransformer.transform(page("page-1", null, "Getting started with the gateway")));
+
+        final SearchResult result = apiSearcher.search(QueryBuilder.create(ApiEntity.class).setQuery("started").build());
+
+        assertTrue(result.getDocuments().isEmpty());
+    }
+
+    @Test
+    public void shouldReferenceApisMatchingFilter() throws Exception {
+        index(apiTransformer.transform(api("api-1", "API 1", "/api-1")));
+        index(apiTransformer.transform(api("api-2", "API 2", "/api-2")));
+        index(pageTransformer.transform(page("page-2", "api-2", "Gateway tutorial")));
+
+        final SearchResult result = apiSearcher.search(QueryBuilder.create(ApiEntity.class).setQuery("gateway")
+                .addFilter("api", singletonList("api-2")).build());
+
+        assertEquals(singletonList("api-2"), result.getDocuments());
+    }
+
+    @Test
+    public void shouldMatchSubstringInTheMiddleOfNameAndPath() throws Exception {
+        index(apiTransformer.transform(api("api-1", "Petstore Swagger", "/petstore-v2")));
+        index(apiTransformer.transform(api("api-2", "Weather", "/weather")));
+
+        assertEquals(singletonList("api-1"), searchApis("STORE"));
+        assertEquals(singletonList("api-1"), searchApis("tstore-v"));
+        // Longer than the n-grams: all of its n-grams of maximum size must match
+        assertEquals(singletonList("api-1"), searchApis("tstore swagg"));
+        assertTrue(searchApis("tstore swagx").isEmpty());
+    }
+
+    @Test
+    public void shouldMatchInputShorterThanNGrams() throws Exception {
+        index(apiTransformer.transform(api("api-1", "Box", "/box")));
+        index(apiTransformer.transform(api("api-2", "Weather", "/weather")));
+
+        assertEquals(singletonList("api-1"), searchApis("x"));
+        assertTrue(searchApis("z").isEmpty());
+    }
+
+    private void index(Document document) throws IOException {
+        writer.updateDocument(new Term("id", document.get("id")), document);
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private List<String> searchApis(String query) throws TechnicalException {
+        return apiSearcher.search(QueryBuilder.create(ApiEntity.class).setQuery(query).build()).getDocuments();
+    }
+
+    private ApiEntity api(String id, String name, String path) {
+        return api(id, name, path, "gateway");
+    }
+
+    private ApiEntity api(String id, String name, String path, String description) {
+        final UserEntity owner = new UserEntity();
+        owner.setId("owner");
+        owner.setEmail("owner@gravitee.io");
+
+        final Proxy proxy = new Proxy();
+        proxy.setVirtualHosts(singletonList(new VirtualHost(path)));
+
+        final ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setName(name);
+        api.setDescription(description);
+        api.setPrimaryOwner(new PrimaryOwnerEntity(owner));
+        api.setProxy(proxy);
+        api.setCreatedAt(new Date());
+        api.setUpdatedAt(new Date());
+        return api;
+    }
+
+    private PageEntity page(String id, String api, String content) {
+        final PageEntity page = api == null ? new PageEntity() : new ApiPageEntity();
+        if (api != null) {
+            ((ApiPageEntity) page).setApi(api);
+        }
+        page.setId(id);
+        page.setName("Documentation");
+        page.setContent(content);
+        page.setLastModificationDate(new Date());
+        return page;
+    }
+
+    private UserEntity user(String id) {
+        final UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setSource("gravitee");
+        user.setSourceId(id);
+        user.setFirstname("john");
+        user.setLastname(id);
+        user.setUpdatedAt(new Date());
+        return user;
+    }
+}
@@ -21,17 +21,20 @@ import io.gravitee.rest.api.model.PrimaryOwnerEntity;
 import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.EmailService;
+import io.gravitee.rest.api.service.impl.TemplateServiceImpl;
 import io.gravitee.rest.api.service.notification.ApiHook;
 import io.gravitee.rest.api.service.notification.ApplicationHook;
 import io.gravitee.rest.api.service.notification.NotificationParamsBuilder;
 import io.gravitee.rest.api.service.notification.PortalHook;
 import io.gravitee.rest.api.service.notifiers.impl.EmailNotifierServiceImpl;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Collections;
@@ -54,6 +57,14 @@ public class EmailNotifierServiceTest {
     @Mock
     private EmailService mockEmailService;
 
+    @Spy
+    private TemplateServiceImpl templateService = new TemplateServiceImpl();
+
+    @Before
+    public void setUp() {
+        templateService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldNotSendEmailIfNoConfig() {
         service.trigger(ApiHook.API_STARTED, null, null);
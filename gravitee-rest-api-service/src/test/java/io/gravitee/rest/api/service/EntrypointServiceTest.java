@@ -25,13 +25,16 @@ import io.gravitee.rest.api.service.EntrypointService;
 import io.gravitee.rest.api.service.exceptions.EntrypointNotFoundException;
 import io.gravitee.rest.api.service.exceptions.EntrypointTagsAlreadyExistsException;
 import io.gravitee.rest.api.service.impl.EntrypointServiceImpl;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 
@@ -66,6 +69,12 @@ public class EntrypointServiceTest {
     @InjectMocks
     private EntrypointService entrypointService = new EntrypointServiceImpl();
 
+    @Spy
+    private ClusteredCacheManager cacheManager = new ClusteredCacheManager();
+
+    @Mock
+    private CommandService commandService;
+
     @Mock
     private AuditService auditService;
     @Mock
@@ -75,6 +84,7 @@ public class EntrypointServiceTest {
 
     @Before
     public void init() throws Exception {
+        ReflectionTestUtils.setField(cacheManager, "commandService", commandService);
         entrypointCreated.setId(ID);
         entrypointCreated.setValue(VALUE);
         entrypointCreated.setTags(TAG);
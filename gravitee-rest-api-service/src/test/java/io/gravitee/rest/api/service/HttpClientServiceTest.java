@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.HttpClientServiceImpl;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class HttpClientServiceTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private String baseUrl;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private HttpClientServiceImpl httpClientService = new HttpClientServiceImpl();
+
+    @Before
+    public void setUp() throws InterruptedException {
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> {
+                    switch (request.path()) {
+                        case "/ok":
+                            request.response().end("ok");
+                            break;
+                        case "/slow":
+                            // Never answered
+                            break;
+                        default:
+                            request.response().setStatusCode(500).end();
+                    }
+                });
+        final CountDownLatch listening = new CountDownLatch(1);
+        server.listen(0, "localhost", ar -> listening.countDown());
+        assertTrue(listening.await(5, TimeUnit.SECONDS));
+        baseUrl = "http://localhost:" + server.actualPort();
+
+        ReflectionTestUtils.setField(httpClientService, "vertx", vertx);
+        ReflectionTestUtils.setField(httpClientService, "httpClientTimeout", 1000);
+        ReflectionTestUtils.setField(httpClientService, "httpClientMaxPoolSize", 1);
+        ReflectionTestUtils.setField(httpClientService, "httpClientIdleTimeout", 60);
+    }
+
+    @After
+    public void tearDown() {
+        httpClientService.destroy();
+        vertx.close();
+    }
+
+    @Test
+    public void shouldRequestAsync() throws Exception {
+        final CompletableFuture<Buffer> future = httpClientService.requestAsync(HttpMethod.GET, baseUrl + "/ok", null, null, false);
+
+        assertEquals("ok", future.get(5, TimeUnit.SECONDS).toString());
+    }
+
+    @Test
+    public void shouldReuseKeepAliveConnection() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", httpClientService.request(HttpMethod.GET, baseUrl + "/ok", null, null, false).toString());
+        }
+
+        assertEquals(1, connections.get());
+    }
+
+    @Test
+    public void shouldFailOnErrorStatus() throws Exception {
+        final CompletableFuture<Buffer> future = httpClientService.requestAsync(HttpMethod.GET, baseUrl + "/error", null, null, false);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("An error status must complete the future exceptionally");
+        } catch (ExecutionException ee) {
+            assertTrue(ee.getCause() instanceof TechnicalManagementException);
+        }
+    }
+
+    @Test
+    public void shouldFailOnTimeout() throws Exception {
+        final CompletableFuture<Buffer> future = httpClientService.requestAsync(HttpMethod.GET, baseUrl + "/slow", null, null, false);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("A request without response must time out");
+        } catch (ExecutionException ee) {
+            // Expected, the connection is given back to the pool
+        }
+        assertEquals("ok", httpClientService.request(HttpMethod.GET, baseUrl + "/ok", null, null, false).toString());
+    }
+
+    @Test
+    public void shouldFailWithoutUri() {
+        final CompletableFuture<Buffer> future = httpClientService.requestAsync(HttpMethod.GET, null, null, null, false);
+
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
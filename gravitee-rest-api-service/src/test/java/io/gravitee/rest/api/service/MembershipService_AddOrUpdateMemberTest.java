@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.model.Membership;
@@ -80,6 +81,8 @@ public class MembershipService_AddOrUpdateMemberTest {
     private IdentityService identityService;
     @Mock
     private NotifierService notifierService;
+    @Mock
+    private EventManager eventManager;
 
     @Test
     public void shouldAddApiGroupMembership() throws Exception {
@@ -54,6 +54,9 @@ public class PageService_DeleteTest {
 
     @Mock
     private SearchEngineService searchEngineService;
+
+    @Mock
+    private SwaggerService swaggerService;
     
     @Test
     public void shouldDeletePage() throws TechnicalException {
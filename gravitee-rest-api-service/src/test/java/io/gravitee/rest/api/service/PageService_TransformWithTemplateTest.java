@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import io.gravitee.rest.api.model.ApiModelEntity;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.service.exceptions.ApiNotFoundException;
+import io.gravitee.rest.api.service.impl.PageServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_TransformWithTemplateTest {
+
+    private static final String API_ID = "id-api";
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private TemplateService templateService;
+
+    private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_23);
+
+    @Before
+    public void setUp() {
+        pageService.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldLoadApiModelOnceForSeveralPages() throws IOException {
+        mockApiModel();
+        mockTemplates();
+        final PageEntity first = page("first", "Welcome to ${api.name}");
+        final PageEntity second = page("second", "${api.name} documentation");
+
+        pageService.transformWithTemplate(first, API_ID);
+        pageService.transformWithTemplate(second, API_ID);
+
+        assertEquals("Welcome to My API", first.getContent());
+        assertEquals("My API documentation", second.getContent());
+        verify(apiService, times(1)).findByIdForTemplates(API_ID);
+    }
+
+    @Test
+    public void shouldReloadApiModelOnceExpired() throws IOException {
+        mockApiModel();
+        mockTemplates();
+        ReflectionTestUtils.setField(pageService, "apiModelCacheTtl", 0L);
+
+        pageService.transformWithTemplate(page("first", "${api.name}"), API_ID);
+        pageService.transformWithTemplate(page("second", "${api.name}"), API_ID);
+
+        verify(apiService, times(2)).findByIdForTemplates(API_ID);
+    }
+
+    @Test
+    public void shouldNotLoadApiModelWithoutContent() {
+        final PageEntity folder = page("folder", null);
+
+        pageService.transformWithTemplate(folder, API_ID);
+
+        assertNull(folder.getContent());
+        verifyZeroInteractions(apiService, templateService);
+    }
+
+    @Test(expected = ApiNotFoundException.class)
+    public void shouldNotTransformBecauseApiNotFound() throws IOException {
+        mockTemplates();
+        when(apiService.findByIdForTemplates(API_ID)).thenThrow(new ApiNotFoundException(API_ID));
+
+        pageService.transformWithTemplate(page("first", "${api.name}"), API_ID);
+    }
+
+    private void mockApiModel() {
+        ApiModelEntity apiModel = new ApiModelEntity();
+        apiModel.setId(API_ID);
+        apiModel.setName("My API");
+        when(apiService.findByIdForTemplates(API_ID)).thenReturn(apiModel);
+    }
+
+    private void mockTemplates() throws IOException {
+        when(templateService.getTemplate(anyString(), anyString()))
+                .thenAnswer(invocation -> new Template(invocation.getArgument(0), invocation.<String>getArgument(1), configuration));
+    }
+
+    private PageEntity page(String id, String content) {
+        final PageEntity page = new PageEntity();
+        page.setId(id);
+        page.setContent(content);
+        return page;
+    }
+}
@@ -68,6 +68,9 @@ public class PageService_UpdateTest {
     @Mock
     private SearchEngineService searchEngineService;
 
+    @Mock
+    private SwaggerService swaggerService;
+
     @Test
     public void shouldUpdate() throws TechnicalException {
         when(pageRepository.findById(PAGE_ID)).thenReturn(Optional.of(page1));
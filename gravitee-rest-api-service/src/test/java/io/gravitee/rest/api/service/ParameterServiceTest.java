@@ -23,12 +23,16 @@ import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.ParameterService;
 import io.gravitee.rest.api.service.impl.ParameterServiceImpl;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,6 +44,7 @@ import static io.gravitee.repository.management.model.Parameter.AuditEvent.PARAM
 import static io.gravitee.repository.management.model.Parameter.AuditEvent.PARAMETER_UPDATED;
 import static io.gravitee.rest.api.model.parameters.Key.*;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -50,6 +55,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -61,11 +67,22 @@ public class ParameterServiceTest {
     @InjectMocks
     private ParameterService parameterService = new ParameterServiceImpl();
 
+    @Spy
+    private ClusteredCacheManager cacheManager = new ClusteredCacheManager();
+
+    @Mock
+    private CommandService commandService;
+
     @Mock
     private ParameterRepository parameterRepository;
     @Mock
     private AuditService auditService;
 
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(cacheManager, "commandService", commandService);
+    }
+
     @Test
     public void shouldFindAll() throws TechnicalException {
         final Parameter parameter = new Parameter();
@@ -118,6 +135,41 @@ public class ParameterServiceTest {
         assertTrue(values.get(p3key.key()).isEmpty());
     }
 
+    @Test
+    public void shouldFindCachedParameterUntilSaved() throws TechnicalException {
+        final Parameter parameter = new Parameter();
+        parameter.setKey(PORTAL_TOP_APIS.key());
+        parameter.setValue("api1");
+
+        when(parameterRepository.findById(PORTAL_TOP_APIS.key())).thenReturn(of(parameter));
+        when(parameterRepository.update(any())).thenReturn(parameter);
+
+        assertEquals(singletonList("api1"), parameterService.findAll(PORTAL_TOP_APIS));
+        assertEquals(singletonList("api1"), parameterService.findAll(PORTAL_TOP_APIS));
+        verify(parameterRepository, times(1)).findById(PORTAL_TOP_APIS.key());
+
+        parameterService.save(PORTAL_TOP_APIS, "api2");
+        parameterService.findAll(PORTAL_TOP_APIS);
+
+        // the save and the lookup following the invalidation
+        verify(parameterRepository, times(3)).findById(PORTAL_TOP_APIS.key());
+        verify(commandService).send(any());
+    }
+
+    @Test
+    public void shouldShareCachedParameterBetweenSingleAndBulkLookups() throws TechnicalException {
+        final Parameter parameter = new Parameter();
+        parameter.setKey(PORTAL_TOP_APIS.key());
+        parameter.setValue("api1");
+
+        when(parameterRepository.findById(PORTAL_TOP_APIS.key())).thenReturn(of(parameter));
+
+        assertEquals(singletonList("api1"), parameterService.findAll(PORTAL_TOP_APIS));
+        assertEquals(singletonList("api1"), parameterService.findAll(singletonList(PORTAL_TOP_APIS)).get(PORTAL_TOP_APIS.key()));
+
+        verify(parameterRepository, never()).findAllByReferenceIdAndReferenceType(any(), any(), any());
+    }
+
     @Test
     public void shouldCreate() throws TechnicalException {
         final Parameter parameter = new Parameter();
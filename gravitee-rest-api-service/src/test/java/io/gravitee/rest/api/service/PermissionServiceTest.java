@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.repository.management.model.RoleScope;
+import io.gravitee.rest.api.idp.api.authentication.UserDetails;
+import io.gravitee.rest.api.model.RoleEntity;
+import io.gravitee.rest.api.model.permissions.RolePermission;
+import io.gravitee.rest.api.model.permissions.RolePermissionAction;
+import io.gravitee.rest.api.service.exceptions.ApiNotFoundException;
+import io.gravitee.rest.api.service.exceptions.ApplicationNotFoundException;
+import io.gravitee.rest.api.service.impl.PermissionServiceImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PermissionServiceTest {
+
+    private static final String USER = "user";
+
+    @InjectMocks
+    private PermissionServiceImpl permissionService = new PermissionServiceImpl();
+
+    @Mock
+    private MembershipService membershipService;
+    @Mock
+    private ApiService apiService;
+    @Mock
+    private ApplicationService applicationService;
+    @Mock
+    private RoleService roleService;
+    @Mock
+    private MembershipRepository membershipRepository;
+    @Mock
+    private ApiRepository apiRepository;
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Before
+    public void setUp() {
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(new UserDetails(USER, "", emptyList()));
+        final SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    @After
+    public void tearDown() {
+        permissionService.clearContext();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void shouldLoadMembershipsOnceForAllApis() throws TechnicalException {
+        Membership apiMembership = membership(MembershipReferenceType.API, "api1", "OWNER");
+        Membership groupMembership = membership(MembershipReferenceType.GROUP, "group", "USER");
+        when(membershipRepository.findByUser(USER)).thenReturn(new HashSet<>(Arrays.asList(apiMembership, groupMembership)));
+
+        Api api2 = new Api();
+        api2.setId("api2");
+        api2.setGroups(Collections.singleton("group"));
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api2));
+
+        RoleEntity owner = role("OWNER");
+        RoleEntity user = role("USER");
+        when(roleService.findById(RoleScope.API, "OWNER")).thenReturn(owner);
+        when(roleService.findById(RoleScope.API, "USER")).thenReturn(user);
+        when(roleService.hasPermission(eq(owner.getPermissions()), any(), any())).thenReturn(true);
+
+        permissionService.initContext();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(permissionService.hasPermission(RolePermission.API_DEFINITION, "api1", RolePermissionAction.READ));
+            assertFalse(permissionService.hasPermission(RolePermission.API_DEFINITION, "api2", RolePermissionAction.READ));
+            assertFalse(permissionService.hasPermission(RolePermission.API_DEFINITION, "api3", RolePermissionAction.READ));
+        }
+
+        verify(membershipRepository, times(1)).findByUser(USER);
+        verify(apiRepository, times(1)).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+        verify(roleService, times(1)).findById(RoleScope.API, "OWNER");
+        verify(roleService, times(1)).findById(RoleScope.API, "USER");
+        verify(roleService, times(10)).hasPermission(eq(user.getPermissions()), any(), any());
+        verifyZeroInteractions(membershipService, apiService, applicationService);
+    }
+
+    @Test
+    public void shouldLookUpMembershipsWithoutContext() {
+        RoleEntity owner = role("OWNER");
+        when(membershipService.getRole(MembershipReferenceType.API, "api1", USER, RoleScope.API)).thenReturn(owner);
+        when(roleService.hasPermission(any(), any(), any())).thenReturn(true);
+
+        assertTrue(permissionService.hasPermission(RolePermission.API_DEFINITION, "api1", RolePermissionAction.READ));
+
+        verifyZeroInteractions(membershipRepository, apiRepository);
+    }
+
+    @Test
+    public void shouldDenyUnknownApiWithContext() throws TechnicalException {
+        Membership groupMembership = membership(MembershipReferenceType.GROUP, "group", "USER");
+        when(membershipRepository.findByUser(USER)).thenReturn(Collections.singleton(groupMembership));
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(emptyList());
+
+        permissionService.initContext();
+
+        // Not found (404) without context, forbidden (403) with a context: the API is not looked up
+        assertFalse(permissionService.hasPermission(RolePermission.API_DEFINITION, "unknown", RolePermissionAction.READ));
+        verifyZeroInteractions(apiService, applicationService);
+    }
+
+    @Test(expected = ApplicationNotFoundException.class)
+    public void shouldNotFindUnknownApiWithoutContext() {
+        when(apiService.findById("unknown")).thenThrow(new ApiNotFoundException("unknown"));
+        when(applicationService.findById("unknown")).thenThrow(new ApplicationNotFoundException("unknown"));
+
+        permissionService.hasPermission(RolePermission.API_DEFINITION, "unknown", RolePermissionAction.READ);
+    }
+
+    private Membership membership(MembershipReferenceType referenceType, String referenceId, String role) {
+        Membership membership = new Membership(USER, referenceId, referenceType);
+        membership.setRoles(Collections.singletonMap(RoleScope.API.getId(), role));
+        return membership;
+    }
+
+    private RoleEntity role(String name) {
+        RoleEntity role = new RoleEntity();
+        role.setName(name);
+        role.setPermissions(Collections.singletonMap(name, new char[]{'R'}));
+        return role;
+    }
+}
@@ -31,7 +31,6 @@ import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.NotifierService;
 import io.gravitee.rest.api.service.ParameterService;
-import io.gravitee.rest.api.service.RatingService;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.exceptions.RatingAlreadyExistsException;
 import io.gravitee.rest.api.service.exceptions.RatingNotFoundException;
@@ -49,6 +48,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Date;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -75,7 +75,7 @@ public class RatingServiceTest {
     private static final String UNKNOWN_RATING_ID = "unknown-rating";
 
     @InjectMocks
-    private RatingService ratingService = new RatingServiceImpl();
+    private RatingServiceImpl ratingService = new RatingServiceImpl();
 
     @Mock
     private RatingRepository ratingRepository;
@@ -108,6 +108,7 @@ public class RatingServiceTest {
 
     @Before
     public void init() {
+        ratingService.afterPropertiesSet();
         final Authentication authentication = mock(Authentication.class);
         when(authentication.getPrincipal()).thenReturn(new UserDetails(USER, "", emptyList()));
         final SecurityContext securityContext = mock(SecurityContext.class);
@@ -307,4 +308,52 @@ public class RatingServiceTest {
         assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(new Byte("3")), 0);
         assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(new Byte("4")), 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindSummariesByApis() throws TechnicalException {
+        when(ratingRepository.findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API)).thenReturn(singletonList(rating));
+        when(ratingRepository.findByReferenceIdAndReferenceType("other-api", RatingReferenceType.API)).thenReturn(emptyList());
+
+        final Map<String, RatingSummaryEntity> summaries = ratingService.findSummariesByApis(asList(API_ID, "other-api"));
+        assertEquals(2, summaries.size());
+        assertEquals(1, summaries.get(API_ID).getNumberOfRatings());
+        assertEquals(3, summaries.get(API_ID).getAverageRate(), 0);
+        assertEquals(0, summaries.get("other-api").getNumberOfRatings());
+        assertNull(summaries.get("other-api").getAverageRate());
+    }
+
+    @Test
+    public void shouldFindCachedSummariesByApisWithoutReadingRatingsAgain() throws TechnicalException {
+        when(ratingRepository.findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API)).thenReturn(singletonList(rating));
+        when(ratingRepository.findByReferenceIdAndReferenceType("other-api", RatingReferenceType.API)).thenReturn(emptyList());
+
+        ratingService.findSummaryByApi(API_ID);
+        ratingService.findSummariesByApis(asList(API_ID, "other-api"));
+        final Map<String, RatingSummaryEntity> summaries = ratingService.findSummariesByApis(asList(API_ID, "other-api"));
+
+        assertEquals(1, summaries.get(API_ID).getNumberOfRatings());
+        assertEquals(0, summaries.get("other-api").getNumberOfRatings());
+        verify(ratingRepository, times(1)).findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API);
+        verify(ratingRepository, times(1)).findByReferenceIdAndReferenceType("other-api", RatingReferenceType.API);
+    }
+
+    @Test
+    public void shouldReadRatingsAgainOnceOneIsDeleted() throws TechnicalException {
+        final Rating r = new Rating();
+        r.setRate(new Byte("5"));
+        when(ratingRepository.findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API))
+                .thenReturn(asList(rating, r))
+                .thenReturn(singletonList(r));
+        when(ratingRepository.findById(RATING_ID)).thenReturn(of(rating));
+
+        assertEquals(4, ratingService.findSummaryByApi(API_ID).getAverageRate(), 0);
+
+        ratingService.delete(RATING_ID);
+
+        final RatingSummaryEntity ratingSummary = ratingService.findSummaryByApi(API_ID);
+        assertEquals(1, ratingSummary.getNumberOfRatings());
+        assertEquals(5, ratingSummary.getAverageRate(), 0);
+        assertNull(ratingSummary.getNumberOfRatingsByRate().get(RATE));
+        verify(ratingRepository, times(2)).findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API);
+    }
+}
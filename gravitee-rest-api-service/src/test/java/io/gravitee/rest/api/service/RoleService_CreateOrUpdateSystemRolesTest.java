@@ -21,12 +21,16 @@ import io.gravitee.repository.management.model.Role;
 import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.impl.RoleServiceImpl;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 
@@ -45,6 +49,12 @@ public class RoleService_CreateOrUpdateSystemRolesTest {
     @InjectMocks
     private RoleServiceImpl roleService = new RoleServiceImpl();
 
+    @Spy
+    private ClusteredCacheManager cacheManager = new ClusteredCacheManager();
+
+    @Mock
+    private CommandService commandService;
+
     @Mock
     private RoleRepository mockRoleRepository;
     @Mock
@@ -71,6 +81,12 @@ public class RoleService_CreateOrUpdateSystemRolesTest {
             2815
     };
 
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(cacheManager, "commandService", commandService);
+        roleService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldCreateSystemRole() throws TechnicalException {
         when(mockRoleRepository.findById(any(), any())).thenReturn(empty());
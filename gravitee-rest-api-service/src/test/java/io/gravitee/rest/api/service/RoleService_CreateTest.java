@@ -25,12 +25,16 @@ import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.exceptions.RoleReservedNameException;
 import io.gravitee.rest.api.service.impl.RoleServiceImpl;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -51,6 +55,12 @@ public class RoleService_CreateTest {
     @InjectMocks
     private RoleServiceImpl roleService = new RoleServiceImpl();
 
+    @Spy
+    private ClusteredCacheManager cacheManager = new ClusteredCacheManager();
+
+    @Mock
+    private CommandService commandService;
+
     @Mock
     private RoleRepository mockRoleRepository;
 
@@ -58,6 +68,12 @@ public class RoleService_CreateTest {
     private AuditService auditService;
 
 
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(cacheManager, "commandService", commandService);
+        roleService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldCreate() throws TechnicalException {
         NewRoleEntity newRoleEntityMock = mock(NewRoleEntity.class);
@@ -22,12 +22,15 @@ import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.service.impl.RoleServiceImpl;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
@@ -35,8 +38,7 @@ import java.util.Optional;
 
 import static io.gravitee.rest.api.model.permissions.PortalPermission.DOCUMENTATION;
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -48,9 +50,17 @@ public class RoleService_FindByIdTest {
     @InjectMocks
     private RoleServiceImpl roleService = new RoleServiceImpl();
 
+    @Spy
+    private ClusteredCacheManager cacheManager = new ClusteredCacheManager();
+
     @Mock
     private RoleRepository mockRoleRepository;
 
+    @Before
+    public void init() {
+        roleService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldFindById_C() throws TechnicalException {
         test_int_to_CRUD(1108, RolePermissionAction.CREATE);
@@ -76,6 +86,20 @@ public class RoleService_FindByIdTest {
         test_int_to_CRUD(1115, RolePermissionAction.CREATE, RolePermissionAction.READ, RolePermissionAction.UPDATE, RolePermissionAction.DELETE);
     }
 
+    @Test
+    public void shouldFindCachedRole() throws TechnicalException {
+        Role roleMock = mock(Role.class);
+        when(roleMock.getScope()).thenReturn(RoleScope.PORTAL);
+        when(roleMock.getName()).thenReturn("name");
+        when(roleMock.getPermissions()).thenReturn(new int[]{1104});
+        when(mockRoleRepository.findById(RoleScope.PORTAL, "name")).thenReturn(Optional.of(roleMock));
+
+        RoleEntity entity = roleService.findById(RoleScope.PORTAL, "name");
+
+        assertSame(entity, roleService.findById(RoleScope.PORTAL, "name"));
+        verify(mockRoleRepository, times(1)).findById(RoleScope.PORTAL, "name");
+    }
+
     private void test_int_to_CRUD(int perm, RolePermissionAction... action) throws TechnicalException {
         Role roleMock = mock(Role.class);
         when(roleMock.getScope()).thenReturn(RoleScope.PORTAL);
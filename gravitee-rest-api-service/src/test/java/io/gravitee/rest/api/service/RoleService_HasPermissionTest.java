@@ -95,4 +95,31 @@ public class RoleService_HasPermissionTest {
 
         assertFalse(hasPermission);
     }
+
+    @Test
+    public void shouldHasPermissionWithOneOfActions() {
+        final Map<String, char[]> perms = new HashMap<>();
+        perms.put(ApiPermission.DOCUMENTATION.name(),
+                new char[]{
+                        RolePermissionAction.READ.getId(),
+                        RolePermissionAction.UPDATE.getId()
+                });
+
+        boolean hasPermission = roleService.hasPermission(
+                perms,
+                ApiPermission.DOCUMENTATION,
+                new RolePermissionAction[]{RolePermissionAction.CREATE, RolePermissionAction.UPDATE});
+
+        assertTrue(hasPermission);
+    }
+
+    @Test
+    public void shouldNotHasPermissionWithoutPermissions() {
+        boolean hasPermission = roleService.hasPermission(
+                null,
+                ApiPermission.DOCUMENTATION,
+                new RolePermissionAction[]{RolePermissionAction.READ});
+
+        assertFalse(hasPermission);
+    }
 }
@@ -25,12 +25,16 @@ import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.exceptions.RoleNotFoundException;
 import io.gravitee.rest.api.service.impl.RoleServiceImpl;
+import io.gravitee.rest.api.service.impl.cache.ClusteredCacheManager;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -38,8 +42,7 @@ import java.util.Optional;
 import static io.gravitee.rest.api.model.permissions.PortalPermission.DOCUMENTATION;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -51,6 +54,12 @@ public class RoleService_UpdateTest {
     @InjectMocks
     private RoleServiceImpl roleService = new RoleServiceImpl();
 
+    @Spy
+    private ClusteredCacheManager cacheManager = new ClusteredCacheManager();
+
+    @Mock
+    private CommandService commandService;
+
     @Mock
     private RoleRepository mockRoleRepository;
 
@@ -58,6 +67,12 @@ public class RoleService_UpdateTest {
     private AuditService auditService;
 
 
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(cacheManager, "commandService", commandService);
+        roleService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldUpdate() throws TechnicalException {
         UpdateRoleEntity updateRoleEntityMock = mock(UpdateRoleEntity.class);
@@ -85,6 +100,26 @@ public class RoleService_UpdateTest {
         assertEquals("not the good permission", RolePermissionAction.CREATE.getId(), perms[0]);
     }
 
+    @Test
+    public void shouldInvalidateCachedRoleOnUpdate() throws TechnicalException {
+        UpdateRoleEntity updateRoleEntityMock = mock(UpdateRoleEntity.class);
+        when(updateRoleEntityMock.getName()).thenReturn("update mock role");
+        when(updateRoleEntityMock.getScope()).thenReturn(io.gravitee.rest.api.model.permissions.RoleScope.PORTAL);
+        Role roleMock = mock(Role.class);
+        when(roleMock.getName()).thenReturn("UPDATE_MOCK_ROLE");
+        when(roleMock.getScope()).thenReturn(RoleScope.PORTAL);
+        when(mockRoleRepository.update(any())).thenReturn(roleMock);
+        when(mockRoleRepository.findById(RoleScope.PORTAL, "update mock role")).thenReturn(Optional.of(roleMock));
+
+        roleService.findById(RoleScope.PORTAL, "update mock role");
+        roleService.findById(RoleScope.PORTAL, "update mock role");
+        roleService.update(updateRoleEntityMock);
+        roleService.findById(RoleScope.PORTAL, "update mock role");
+
+        // once for each uncached lookup and once by the update itself
+        verify(mockRoleRepository, times(3)).findById(RoleScope.PORTAL, "update mock role");
+    }
+
     @Test(expected = RoleNotFoundException.class)
     public void shouldNotUpdateIfNotExists() throws TechnicalException {
         UpdateRoleEntity updateRoleEntityMock = mock(UpdateRoleEntity.class);
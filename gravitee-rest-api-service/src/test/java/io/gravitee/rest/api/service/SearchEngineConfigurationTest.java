@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.service.impl.search.configuration.SearchEngineConfiguration;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SearchEngineConfigurationTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private SearchEngineConfiguration configuration = new SearchEngineConfiguration();
+
+    @Test
+    public void shouldReopenPersistentIndex() throws IOException {
+        configure(true);
+        write(configuration.indexDirectory(), 3);
+
+        assertEquals(3, reopen());
+    }
+
+    @Test
+    public void shouldRecreateIndexWhenNotPersistent() throws IOException {
+        configure(false);
+        write(configuration.indexDirectory(), 3);
+
+        assertEquals(0, reopen());
+    }
+
+    @Test
+    public void shouldRecreateIndexBuiltWithAnotherSchema() throws IOException {
+        configure(true);
+        // Written without any schema version
+        try (Directory directory = configuration.indexDirectory();
+             IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))) {
+            writer.addDocument(document("1"));
+            writer.commit();
+        }
+
+        assertEquals(0, reopen());
+    }
+
+    private void configure(boolean persistent) {
+        ReflectionTestUtils.setField(configuration, "indexDirectory", temporaryFolder.getRoot().getAbsolutePath());
+        ReflectionTestUtils.setField(configuration, "persistent", persistent);
+    }
+
+    private void write(Directory directory, int count) throws IOException {
+        try (IndexWriter writer = configuration.indexWriter(directory, new StandardAnalyzer())) {
+            for (int i = 0; i < count; i++) {
+                writer.addDocument(document(String.valueOf(i)));
+            }
+            writer.commit();
+        } finally {
+            directory.close();
+        }
+    }
+
+    /**
+     * Opens the index directory again, as done on the next startup.
+     */
+    private int reopen() throws IOException {
+        try (Directory directory = configuration.indexDirectory();
+             IndexWriter writer = configuration.indexWriter(directory, new StandardAnalyzer());
+             DirectoryReader reader = DirectoryReader.open(writer)) {
+            return reader.numDocs();
+        }
+    }
+
+    private Document document(String id) {
+        Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.YES));
+        return document;
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SearchEngineIndexerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    private SearchEngineIndexer indexer = new SearchEngineIndexer();
+
+    @Before
+    public void setUp() throws IOException {
+        writer = new IndexWriter(FSDirectory.open(temporaryFolder.getRoot().toPath()), new IndexWriterConfig(new StandardAnalyzer()));
+        searcherManager = new SearcherManager(writer, null);
+        ReflectionTestUtils.setField(indexer, "writer", writer);
+        ReflectionTestUtils.setField(indexer, "searcherManager", searcherManager);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        indexer.destroy();
+        searcherManager.close();
+        writer.close();
+    }
+
+    @Test
+    public void shouldCoalesceOperationsOfSameDocument() throws Exception {
+        start(100, 60000);
+
+        indexer.index(document("1", "api", "first"));
+        indexer.index(document("1", "api", "second"));
+        assertEquals(1, indexer.getQueueDepth());
+
+        indexer.flush();
+
+        assertEquals(1, indexer.getCommitCount());
+        assertEquals(1, count("1"));
+        assertEquals("second", find("1").get("name"));
+    }
+
+    @Test
+    public void shouldNotCoalesceOperationsOfDifferentTypes() throws Exception {
+        start(100, 60000);
+
+        indexer.index(document("1", "api", "api"));
+        indexer.remove(document("1", "page", "page"));
+        assertEquals(2, indexer.getQueueDepth());
+
+        indexer.flush();
+
+        // The page removal does not cancel the API update
+        assertEquals(1, count("1"));
+        assertEquals("api", find("1").get("name"));
+    }
+
+    @Test
+    public void shouldCoalesceRemovalOfEveryType() throws Exception {
+        start(100, 60000);
+
+        indexer.index(document("1", "api", "api"));
+        indexer.index(document("2", "page", "page"));
+        indexer.remove("1");
+        assertEquals(2, indexer.getQueueDepth());
+
+        indexer.flush();
+
+        assertEquals(0, count("1"));
+        assertEquals(1, count("2"));
+    }
+
+    @Test
+    public void shouldCommitFullBatchOnce() throws Exception {
+        start(10, 60000);
+
+        for (int i = 0; i < 10; i++) {
+            indexer.index(document(String.valueOf(i), "api", "api-" + i));
+        }
+
+        waitFor(() -> indexer.getCommitCount() == 1);
+        assertEquals(0, indexer.getQueueDepth());
+        assertEquals(10, numDocs());
+    }
+
+    @Test
+    public void shouldCommitPendingOperationsOnInterval() throws Exception {
+        start(100, 100);
+
+        for (int i = 0; i < 3; i++) {
+            indexer.index(document(String.valueOf(i), "api", "api-" + i));
+        }
+
+        waitFor(() -> indexer.getCommitCount() >= 1);
+        Thread.sleep(300);
+        // Nothing is committed while the queue is empty
+        assertEquals(1, indexer.getCommitCount());
+        assertEquals(3, numDocs());
+    }
+
+    private void start(int batchSize, long commitInterval) {
+        ReflectionTestUtils.setField(indexer, "batchSize", batchSize);
+        ReflectionTestUtils.setField(indexer, "commitInterval", commitInterval);
+        indexer.afterPropertiesSet();
+    }
+
+    private Document document(String id, String type, String name) {
+        Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.YES));
+        document.add(new StringField("type", type, Field.Store.YES));
+        document.add(new StoredField("name", name));
+        return document;
+    }
+
+    private int numDocs() throws IOException {
+        try (DirectoryReader reader = DirectoryReader.open(writer.getDirectory())) {
+            return reader.numDocs();
+        }
+    }
+
+    private int count(String id) throws IOException {
+        try (DirectoryReader reader = DirectoryReader.open(writer.getDirectory())) {
+            return new IndexSearcher(reader).count(new TermQuery(new Term("id", id)));
+        }
+    }
+
+    private Document find(String id) throws IOException {
+        try (DirectoryReader reader = DirectoryReader.open(writer.getDirectory())) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs topDocs = searcher.search(new TermQuery(new Term("id", id)), 1);
+            return searcher.doc(topDocs.scoreDocs[0].doc);
+        }
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.search.UserCriteria;
+import io.gravitee.rest.api.model.ApiPageEntity;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.common.Pageable;
+import io.gravitee.rest.api.model.documentation.PageQuery;
+import io.gravitee.rest.api.service.impl.upgrade.SearchIndexUpgrader;
+import io.gravitee.rest.api.service.search.SearchEngineService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SearchIndexUpgraderTest {
+
+    private static final Date INDEXED_AT = new Date(1000);
+    private static final Date UPDATED_AT = new Date(2000);
+
+    @InjectMocks
+    private SearchIndexUpgrader upgrader = new SearchIndexUpgrader();
+
+    @Mock
+    private ApiService apiService;
+    @Mock
+    private PageService pageService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private SearchEngineService searchEngineService;
+
+    @Test
+    public void shouldOnlyReindexChangedDocuments() {
+        final Map<String, Long> indexedVersions = new HashMap<>();
+        indexedVersions.put("api-unchanged", INDEXED_AT.getTime());
+        indexedVersions.put("api-updated", INDEXED_AT.getTime());
+        indexedVersions.put("page-unchanged", INDEXED_AT.getTime());
+        indexedVersions.put("page-updated", INDEXED_AT.getTime());
+        indexedVersions.put("user-unchanged", INDEXED_AT.getTime());
+        indexedVersions.put("api-deleted", INDEXED_AT.getTime());
+        when(searchEngineService.findIndexedVersions()).thenReturn(indexedVersions);
+
+        final ApiEntity unchangedApi = api("api-unchanged", INDEXED_AT);
+        final ApiEntity updatedApi = api("api-updated", UPDATED_AT);
+        final ApiEntity createdApi = api("api-created", UPDATED_AT);
+        when(apiService.findAll()).thenReturn(new LinkedHashSet<>(Arrays.asList(unchangedApi, updatedApi, createdApi)));
+
+        final PageEntity unchangedPage = page("page-unchanged", INDEXED_AT);
+        final PageEntity updatedPage = page("page-updated", UPDATED_AT);
+        when(pageService.search(any(PageQuery.class))).thenAnswer(invocation ->
+                "api-unchanged".equals(invocation.<PageQuery>getArgument(0).getApi()) ?
+                        Arrays.asList(unchangedPage, updatedPage) : Collections.emptyList());
+
+        final UserEntity unchangedUser = new UserEntity();
+        unchangedUser.setId("user-unchanged");
+        unchangedUser.setUpdatedAt(INDEXED_AT);
+        when(userService.search(any(UserCriteria.class), any(Pageable.class)))
+                .thenReturn(new Page<>(singletonList(unchangedUser), 1, 1, 1));
+
+        upgrader.upgrade();
+
+        verify(searchEngineService).index(updatedApi, true);
+        verify(searchEngineService).index(createdApi, true);
+        verify(searchEngineService).index(updatedPage, true);
+        verify(searchEngineService, times(3)).index(any(), anyBoolean());
+        verify(pageService).transformSwagger(updatedPage, "api-unchanged");
+        verify(pageService, never()).transformSwagger(eq(unchangedPage), anyString());
+        verify(searchEngineService).deleteLocally(Collections.singleton("api-deleted"));
+    }
+
+    private ApiEntity api(String id, Date updatedAt) {
+        final ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setUpdatedAt(updatedAt);
+        return api;
+    }
+
+    private PageEntity page(String id, Date lastModificationDate) {
+        final ApiPageEntity page = new ApiPageEntity();
+        page.setId(id);
+        page.setType(PageType.MARKDOWN.name());
+        page.setLastModificationDate(lastModificationDate);
+        return page;
+    }
+}
@@ -28,6 +28,7 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.SubscriptionRepository;
 import io.gravitee.repository.management.api.search.SubscriptionCriteria;
 import io.gravitee.repository.management.model.Subscription;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -65,7 +66,7 @@ public class SubscriptionServiceTest {
     private static final String USER_ID = "user";
 
     @InjectMocks
-    private SubscriptionService subscriptionService = new SubscriptionServiceImpl();
+    private SubscriptionServiceImpl subscriptionService = new SubscriptionServiceImpl();
 
     @Mock
     private PlanService planService;
@@ -98,6 +99,11 @@ public class SubscriptionServiceTest {
     @Mock
     private GroupService groupService;
 
+    @Before
+    public void setUp() {
+        subscriptionService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldFindById() throws TechnicalException {
         when(subscription.getStatus()).thenReturn(Subscription.Status.ACCEPTED);
@@ -908,4 +914,22 @@ public class SubscriptionServiceTest {
         // Run
         subscriptionService.create(new NewSubscriptionEntity(PLAN_ID, APPLICATION_ID));
     }
+
+    @Test
+    public void shouldCountByApis() throws TechnicalException {
+        Subscription sub1 = new Subscription();
+        sub1.setApi(API_ID);
+        Subscription sub2 = new Subscription();
+        sub2.setApi(API_ID);
+        when(subscriptionRepository.search(any(SubscriptionCriteria.class))).thenReturn(asList(sub1, sub2));
+
+        Map<String, Long> counts = subscriptionService.countByApis(asList(API_ID, "other-api"));
+        assertEquals(1, counts.size());
+        assertEquals(2L, (long) counts.get(API_ID));
+
+        // counts are cached
+        counts = subscriptionService.countByApis(asList(API_ID, "other-api"));
+        assertEquals(2L, (long) counts.get(API_ID));
+        verify(subscriptionRepository, times(1)).search(any(SubscriptionCriteria.class));
+    }
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import io.gravitee.rest.api.service.impl.swagger.SwaggerDescriptorVersion;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SwaggerService_DetectVersionTest {
+
+    private String read(String resource) throws IOException {
+        return Resources.toString(Resources.getResource("io/gravitee/rest/api/management/service/" + resource), Charsets.UTF_8);
+    }
+
+    @Test
+    public void shouldDetectSwaggerV1() throws IOException {
+        assertEquals(SwaggerDescriptorVersion.V1, SwaggerDescriptorVersion.detect(read("swagger-v1.json")));
+    }
+
+    @Test
+    public void shouldDetectSwaggerV2() throws IOException {
+        assertEquals(SwaggerDescriptorVersion.V2, SwaggerDescriptorVersion.detect(read("swagger-v2.json")));
+        assertEquals(SwaggerDescriptorVersion.V2, SwaggerDescriptorVersion.detect(read("swagger-v2.yaml")));
+    }
+
+    @Test
+    public void shouldDetectOpenAPI() throws IOException {
+        assertEquals(SwaggerDescriptorVersion.V3, SwaggerDescriptorVersion.detect(read("openapi.json")));
+        assertEquals(SwaggerDescriptorVersion.V3, SwaggerDescriptorVersion.detect(read("openapi.yaml")));
+    }
+
+    @Test
+    public void shouldDetectVersionAfterNestedObjects() {
+        assertEquals(SwaggerDescriptorVersion.V2,
+                SwaggerDescriptorVersion.detect("{\"info\": {\"swaggerVersion\": \"1.2\", \"tags\": [1, 2]}, \"swagger\": \"2.0\"}"));
+    }
+
+    @Test
+    public void shouldNotDetectUnknownDescriptor() {
+        assertEquals(SwaggerDescriptorVersion.UNKNOWN, SwaggerDescriptorVersion.detect("{\"info\": {}}"));
+        assertEquals(SwaggerDescriptorVersion.UNKNOWN, SwaggerDescriptorVersion.detect("not a descriptor"));
+        assertEquals(SwaggerDescriptorVersion.UNKNOWN, SwaggerDescriptorVersion.detect(null));
+    }
+}
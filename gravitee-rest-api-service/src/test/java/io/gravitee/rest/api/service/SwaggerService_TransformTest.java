@@ -20,7 +20,6 @@ import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.PageEntity;
-import io.gravitee.rest.api.service.SwaggerService;
 import io.gravitee.rest.api.service.impl.SwaggerServiceImpl;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
@@ -37,6 +36,8 @@ import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -45,11 +46,12 @@ import static org.junit.Assert.assertNotNull;
 @RunWith(MockitoJUnitRunner.class)
 public class SwaggerService_TransformTest {
 
-    private SwaggerService swaggerService;
+    private SwaggerServiceImpl swaggerService;
 
     @Before
     public void setUp() {
         swaggerService = new SwaggerServiceImpl();
+        swaggerService.afterPropertiesSet();
     }
 
 
@@ -117,6 +119,55 @@ public class SwaggerService_TransformTest {
         validateV3(Yaml.mapper().readTree(pageEntity.getContent()));
     }
 
+    @Test
+    public void shouldServeTransformedPageFromCache() throws IOException {
+        PageEntity pageEntity = getPage("io/gravitee/rest/api/management/service/swagger-v2.json", MediaType.APPLICATION_JSON);
+        pageEntity.setId("my-page");
+        String descriptor = pageEntity.getContent();
+
+        swaggerService.transform(pageEntity);
+        String transformed = pageEntity.getContent();
+
+        pageEntity.setContent(descriptor);
+        swaggerService.transform(pageEntity);
+
+        assertSame(transformed, pageEntity.getContent());
+    }
+
+    @Test
+    public void shouldTransformAgainWhenConfigurationChanges() throws IOException {
+        PageEntity pageEntity = getPage("io/gravitee/rest/api/management/service/swagger-v2.json", MediaType.APPLICATION_JSON);
+        pageEntity.setId("my-page");
+        String descriptor = pageEntity.getContent();
+
+        swaggerService.transform(pageEntity);
+
+        pageEntity.setContent(descriptor);
+        pageEntity.getConfiguration().put("tryItURL", "https://other.domain.com/v2");
+        swaggerService.transform(pageEntity);
+
+        JsonNode node = Json.mapper().readTree(pageEntity.getContent());
+        assertEquals("other.domain.com", node.get("host").asText());
+        assertEquals("/v2", node.get("basePath").asText());
+    }
+
+    @Test
+    public void shouldTransformAgainWhenEvicted() throws IOException {
+        PageEntity pageEntity = getPage("io/gravitee/rest/api/management/service/swagger-v2.json", MediaType.APPLICATION_JSON);
+        pageEntity.setId("my-page");
+        String descriptor = pageEntity.getContent();
+
+        swaggerService.transform(pageEntity);
+        String transformed = pageEntity.getContent();
+
+        swaggerService.evict("my-page");
+        pageEntity.setContent(descriptor);
+        swaggerService.transform(pageEntity);
+
+        assertNotSame(transformed, pageEntity.getContent());
+        assertEquals(transformed, pageEntity.getContent());
+    }
+
     private void validateV2(JsonNode node) {
         assertEquals("1.2.3", node.get("info").get("version").asText());
         assertEquals("Gravitee.io Swagger API", node.get("info").get("title").asText());
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import freemarker.template.Template;
+import io.gravitee.rest.api.service.impl.TemplateServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class TemplateServiceTest {
+
+    private TemplateServiceImpl templateService;
+
+    @Before
+    public void setUp() {
+        templateService = new TemplateServiceImpl();
+        templateService.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldReuseCompiledTemplate() throws IOException {
+        Template template = templateService.getTemplate("page", "Hello ${name}");
+
+        assertSame(template, templateService.getTemplate("page", "Hello ${name}"));
+        assertEquals(1, templateService.getHitCount());
+        assertEquals(1, templateService.getMissCount());
+    }
+
+    @Test
+    public void shouldCompileUpdatedContent() throws IOException {
+        Template template = templateService.getTemplate("page", "Hello ${name}");
+
+        assertNotSame(template, templateService.getTemplate("page", "Goodbye ${name}"));
+        assertNotSame(template, templateService.getTemplate("other-page", "Hello ${name}"));
+        assertEquals(0, templateService.getHitCount());
+        assertEquals(3, templateService.getMissCount());
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailOnInvalidTemplate() throws IOException {
+        templateService.getTemplate("page", "Hello ${name");
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.service.vertx.WorkerDispatcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class WorkerDispatcherTest {
+
+    private WorkerDispatcher dispatcher = new WorkerDispatcher();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(dispatcher, "poolSize", 4);
+        dispatcher.afterPropertiesSet();
+        dispatcher.register("api:1");
+        dispatcher.register("dictionary:1");
+    }
+
+    @After
+    public void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void shouldRunTasksOfSameKeyOneAfterAnother() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<String> runs = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch("api:1", () -> {
+            track(running, maxRunning);
+            started.countDown();
+            await(release);
+            runs.add("first");
+            running.decrementAndGet();
+            done.countDown();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Both are dispatched while the first one is running: the second one is replaced by the third one
+        dispatcher.dispatch("api:1", () -> runs.add("second"));
+        dispatcher.dispatch("api:1", () -> {
+            track(running, maxRunning);
+            runs.add("third");
+            running.decrementAndGet();
+            done.countDown();
+        });
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(asList("first", "third"), runs);
+        assertEquals(1, maxRunning.get());
+        assertEquals(1, dispatcher.getReplacedTaskCount());
+    }
+
+    @Test
+    public void shouldRunTasksOfDifferentKeysConcurrently() throws InterruptedException {
+        final CountDownLatch running = new CountDownLatch(2);
+
+        dispatcher.dispatch("api:1", () -> {
+            running.countDown();
+            await(running);
+        });
+        dispatcher.dispatch("dictionary:1", () -> {
+            running.countDown();
+            await(running);
+        });
+
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldRunNextTaskAfterFailure() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(1);
+
+        dispatcher.dispatch("api:1", () -> {
+            throw new IllegalStateException();
+        });
+        dispatcher.dispatch("api:1", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldDropTasksDispatchedOnceReleased() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final List<String> runs = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch("api:1", () -> {
+            started.countDown();
+            await(release);
+            runs.add("running");
+            done.countDown();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Waiting while the key is released, then completed late by a stopped poller
+        dispatcher.dispatch("api:1", () -> runs.add("pending"));
+        dispatcher.release("api:1");
+        dispatcher.dispatch("api:1", () -> runs.add("late"));
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(singletonList("running"), runs);
+    }
+
+    private void track(AtomicInteger running, AtomicInteger maxRunning) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
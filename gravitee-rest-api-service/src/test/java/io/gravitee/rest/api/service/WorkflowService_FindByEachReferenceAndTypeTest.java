@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.WorkflowRepository;
+import io.gravitee.repository.management.model.Workflow;
+import io.gravitee.rest.api.service.impl.WorkflowServiceImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.gravitee.rest.api.model.WorkflowReferenceType.API;
+import static io.gravitee.rest.api.model.WorkflowType.REVIEW;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class WorkflowService_FindByEachReferenceAndTypeTest {
+
+    @InjectMocks
+    private WorkflowServiceImpl workflowService = new WorkflowServiceImpl();
+
+    @Mock
+    private WorkflowRepository workflowRepository;
+
+    @Test
+    public void shouldQueryEachReferenceOnce() throws TechnicalException {
+        final Workflow workflow = new Workflow();
+        workflow.setReferenceId("api-1");
+        when(workflowRepository.findByReferenceAndType("API", "api-1", "REVIEW")).thenReturn(singletonList(workflow));
+        when(workflowRepository.findByReferenceAndType("API", "api-2", "REVIEW")).thenReturn(emptyList());
+
+        final Map<String, List<Workflow>> workflows =
+                workflowService.findByEachReferenceAndType(API, asList("api-1", "api-2", "api-1"), REVIEW);
+
+        assertEquals(1, workflows.size());
+        assertEquals(singletonList(workflow), workflows.get("api-1"));
+        verify(workflowRepository, times(2)).findByReferenceAndType(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldNotQueryWithoutReference() throws TechnicalException {
+        final Map<String, List<Workflow>> workflows = workflowService.findByEachReferenceAndType(API, emptyList(), REVIEW);
+
+        assertTrue(workflows.isEmpty());
+        verifyZeroInteractions(workflowRepository);
+    }
+}
@@ -18,6 +18,7 @@ package io.gravitee.rest.api.services.dictionary;
 import io.gravitee.definition.model.Property;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.UpdateDictionaryEntity;
+import io.gravitee.rest.api.service.vertx.WorkerDispatcher;
 import io.gravitee.rest.api.services.dictionary.model.DynamicProperty;
 import io.gravitee.rest.api.services.dictionary.provider.Provider;
 import io.vertx.core.Handler;
@@ -40,6 +41,7 @@ public class DictionaryRefresher implements Handler<Long> {
     private DictionaryEntity dictionary;
     private Provider provider;
     private io.gravitee.rest.api.service.configuration.dictionary.DictionaryService dictionaryService;
+    private WorkerDispatcher dispatcher;
 
     public DictionaryRefresher(final DictionaryEntity dictionary) {
         this.dictionary = dictionary;
@@ -56,7 +58,8 @@ public class DictionaryRefresher implements Handler<Long> {
                                 dictionary.getId(), provider.name(),
                                 throwable);
                     } else if (dynamicProperties != null) {
-                        updateDictionary(dynamicProperties);
+                        // Repository calls must not block the event loop
+                        dispatcher.dispatch("dictionary:" + dictionary.getId(), () -> updateDictionary(dynamicProperties));
                     }
                 });
     }
@@ -101,4 +104,8 @@ public class DictionaryRefresher implements Handler<Long> {
     public void setProvider(Provider provider) {
         this.provider = provider;
     }
+
+    public void setDispatcher(WorkerDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 }
@@ -25,6 +25,7 @@ import io.gravitee.rest.api.model.configuration.dictionary.DictionaryEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryProviderEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryTriggerEntity;
 import io.gravitee.rest.api.service.event.DictionaryEvent;
+import io.gravitee.rest.api.service.vertx.WorkerDispatcher;
 import io.gravitee.rest.api.services.dictionary.provider.http.HttpProvider;
 import io.gravitee.rest.api.services.dictionary.provider.http.configuration.HttpProviderConfiguration;
 import io.vertx.core.Vertx;
@@ -61,6 +62,9 @@ public class DictionaryService extends AbstractService implements EventListener<
     @Autowired
     private Vertx vertx;
 
+    @Autowired
+    private WorkerDispatcher dispatcher;
+
     private final Map<String, Long> timers = new HashMap<>();
 
     @Override
@@ -108,9 +112,12 @@ public class DictionaryService extends AbstractService implements EventListener<
 
                     refresher.setProvider(provider);
                     refresher.setDictionaryService(dictionaryService);
+                    refresher.setDispatcher(dispatcher);
                     logger.info("Add a scheduled task to poll dictionary provider each {} {} ", dictionary.getTrigger().getRate(),
                             dictionary.getTrigger().getUnit());
 
+                    dispatcher.register("dictionary:" + dictionary.getId());
+
                     // Force the first refresh, and then run it periodically
                     refresher.handle(null);
 
@@ -144,5 +151,6 @@ public class DictionaryService extends AbstractService implements EventListener<
             logger.info("Stop dictionary refresher task for dictionary id[{}]", dictionary.getId());
             vertx.cancelTimer(timer);
         }
+        dispatcher.release("dictionary:" + dictionary.getId());
     }
 }
@@ -26,6 +26,7 @@ import io.gravitee.definition.model.services.schedule.Trigger;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.event.ApiEvent;
+import io.gravitee.rest.api.service.vertx.WorkerDispatcher;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpProvider;
 import io.vertx.core.Vertx;
 
@@ -33,8 +34,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Alexandre FARIA (lusoalex on github.com)
@@ -55,7 +56,13 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     @Autowired
     private Vertx vertx;
 
-    private final Map<ApiEntity, Long> timers = new HashMap<>();
+    @Autowired
+    private WorkerDispatcher dispatcher;
+
+    // APIs are deployed by several threads during the initial synchronization
+    private final Map<ApiEntity, Long> timers = new ConcurrentHashMap<>();
+
+    private final Map<ApiEntity, HttpProvider> providers = new ConcurrentHashMap<>();
 
     @Override
     protected String name() {
@@ -104,14 +111,18 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
 
                     updater.setProvider(provider);
                     updater.setApiService(apiService);
+                    updater.setDispatcher(dispatcher);
                     logger.info("Add a scheduled task to poll dynamic properties each {} {} ", dynamicPropertyService.getTrigger().getRate(),
                             dynamicPropertyService.getTrigger().getUnit());
 
+                    dispatcher.register("api:" + api.getId());
+
                     // Force the first refresh, and then run it periodically
                     updater.handle(null);
 
                     long periodicTimer = vertx.setPeriodic(getDelayMillis(dynamicPropertyService.getTrigger()), updater);
                     timers.put(api, periodicTimer);
+                    providers.put(api, provider);
                 }
             } else {
                 logger.info("Dynamic properties service is disabled for: {} [{}]", api.getName(), api.getVersion());
@@ -140,5 +151,11 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
             logger.info("Stop Dynamic properties service for API id[{}] name[{}]", api.getId(), api.getName());
             vertx.cancelTimer(timer);
         }
+        dispatcher.release("api:" + api.getId());
+
+        HttpProvider provider = providers.remove(api);
+        if (provider != null) {
+            provider.close();
+        }
     }
 }
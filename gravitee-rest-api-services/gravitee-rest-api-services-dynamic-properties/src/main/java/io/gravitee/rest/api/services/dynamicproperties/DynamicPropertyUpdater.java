@@ -23,6 +23,7 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.ApiService;
+import io.gravitee.rest.api.service.vertx.WorkerDispatcher;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
 import io.vertx.core.Handler;
@@ -49,6 +50,7 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     private ApiEntity api;
     private Provider provider;
     private ApiService apiService;
+    private WorkerDispatcher dispatcher;
 
     public DynamicPropertyUpdater(final ApiEntity api) {
         this.api = api;
@@ -106,7 +108,6 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     @Override
     public void handle(Long event) {
         logger.debug("Running dynamic-properties poller for {}", api);
-        authenticateAsAdmin();
 
         provider.get()
                 .whenComplete((dynamicProperties, throwable) -> {
@@ -115,7 +116,15 @@ public class DynamicPropertyUpdater implements Handler<Long> {
                                 api.getId(), provider.name(),
                                 throwable);
                     } else if (dynamicProperties != null) {
-                        update(dynamicProperties);
+                        // Repository calls must not block the event loop
+                        dispatcher.dispatch("api:" + api.getId(), () -> {
+                            authenticateAsAdmin();
+                            try {
+                                update(dynamicProperties);
+                            } finally {
+                                SecurityContextHolder.clearContext();
+                            }
+                        });
                     }
                 });
     }
@@ -182,4 +191,8 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     public void setProvider(Provider provider) {
         this.provider = provider;
     }
+
+    public void setDispatcher(WorkerDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 }
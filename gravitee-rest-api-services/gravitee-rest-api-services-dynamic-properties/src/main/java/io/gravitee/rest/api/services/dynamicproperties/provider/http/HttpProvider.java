@@ -46,12 +46,22 @@ public class HttpProvider implements Provider {
 
     private static final String HTTPS_SCHEME = "https";
 
+    private static final int CONNECT_TIMEOUT = 2000;
+
+    /**
+     * A poll which does not get its response in time is failed, so that the single connection is given back to the
+     * next poll.
+     */
+    private static final long REQUEST_TIMEOUT = 10000;
+
     private final HttpDynamicPropertyProviderConfiguration dpConfiguration;
 
     private JoltMapper mapper;
 
     private Vertx vertx;
 
+    private HttpClient httpClient;
+
     public HttpProvider(final DynamicPropertyService dpService) {
         Objects.requireNonNull(dpService, "Service must not be null");
 
@@ -64,17 +74,8 @@ public class HttpProvider implements Provider {
         CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
 
         URI requestUri = URI.create(dpConfiguration.getUrl());
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(requestUri.getScheme());
-
-        final HttpClientOptions options = new HttpClientOptions()
-                .setSsl(ssl)
-                .setTrustAll(true)
-                .setMaxPoolSize(1)
-                .setKeepAlive(false)
-                .setTcpKeepAlive(false)
-                .setConnectTimeout(2000);
 
-        final HttpClient httpClient = vertx.createHttpClient(options);
+        final HttpClient httpClient = getHttpClient(requestUri);
 
         final int port = requestUri.getPort() != -1 ? requestUri.getPort() :
                 (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
@@ -86,30 +87,20 @@ public class HttpProvider implements Provider {
                     requestUri.getHost(),
                     requestUri.toString()
             );
+            request.setTimeout(REQUEST_TIMEOUT);
 
             request.handler(response -> {
-                if (response.statusCode() == HttpStatusCode.OK_200) {
-                    response.bodyHandler(buffer -> {
+                // The body is always read so that the connection can be reused by the next poll
+                response.bodyHandler(buffer -> {
+                    if (response.statusCode() == HttpStatusCode.OK_200) {
                         future.complete(buffer);
-
-                        // Close client
-                        httpClient.close();
-                    });
-                } else {
-                    future.complete(null);
-                }
+                    } else {
+                        future.complete(null);
+                    }
+                });
             });
 
-            request.exceptionHandler(event -> {
-                try {
-                    future.completeExceptionally(event);
-
-                    // Close client
-                    httpClient.close();
-                } catch (IllegalStateException ise) {
-                    // Do not take care about exception when closing client
-                }
-            });
+            request.exceptionHandler(future::completeExceptionally);
 
             request.end();
         } catch (Exception ex) {
@@ -125,6 +116,37 @@ public class HttpProvider implements Provider {
         });
     }
 
+    /**
+     * The client, and its keep-alive connection, is kept from one poll to the next one until the provider is closed.
+     * At most one poll waits for the connection held by a slow poll, the next ones are failed instead of piling up.
+     */
+    private synchronized HttpClient getHttpClient(URI requestUri) {
+        if (httpClient == null) {
+            final HttpClientOptions options = new HttpClientOptions()
+                    .setSsl(HTTPS_SCHEME.equalsIgnoreCase(requestUri.getScheme()))
+                    .setTrustAll(true)
+                    .setMaxPoolSize(1)
+                    .setMaxWaitQueueSize(1)
+                    .setKeepAlive(true)
+                    .setTcpKeepAlive(true)
+                    .setConnectTimeout(CONNECT_TIMEOUT);
+
+            httpClient = vertx.createHttpClient(options);
+        }
+        return httpClient;
+    }
+
+    public synchronized void close() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IllegalStateException ise) {
+                // Do not take care about exception when closing client
+            }
+            httpClient = null;
+        }
+    }
+
     @Override
     public String name() {
         return "custom";
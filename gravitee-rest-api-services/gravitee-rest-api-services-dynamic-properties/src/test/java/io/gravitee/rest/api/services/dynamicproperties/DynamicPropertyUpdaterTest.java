@@ -16,10 +16,13 @@
 package io.gravitee.rest.api.services.dynamicproperties;
 
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.ApiService;
+import io.gravitee.rest.api.service.vertx.WorkerDispatcher;
 import io.gravitee.rest.api.services.dynamicproperties.DynamicPropertyUpdater;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -29,6 +32,11 @@ import org.mockito.MockitoAnnotations;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -44,12 +52,25 @@ public class DynamicPropertyUpdaterTest {
     @Mock
     private Provider provider;
 
+    @Mock
+    private ApiService apiService;
+
+    private WorkerDispatcher dispatcher = new WorkerDispatcher();
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
+        dispatcher.afterPropertiesSet();
         poller = new DynamicPropertyUpdater(apiEntity);
         Mockito.when(provider.name()).thenReturn("mock");
         poller.setProvider(provider);
+        poller.setApiService(apiService);
+        poller.setDispatcher(dispatcher);
+    }
+
+    @After
+    public void tearDown() {
+        dispatcher.destroy();
     }
 
     @Test
@@ -79,4 +100,41 @@ public class DynamicPropertyUpdaterTest {
 
         poller.handle(1L);
     }
+
+    @Test
+    public void shouldUpdatePropertiesOnWorkerThread() {
+        ApiEntity latestApi = new ApiEntity();
+        latestApi.setId("my-api");
+        Mockito.when(apiEntity.getId()).thenReturn("my-api");
+        Mockito.when(apiService.findById("my-api")).thenReturn(latestApi);
+
+        AtomicReference<String> updateThread = new AtomicReference<>();
+        Mockito.when(apiService.update(eq("my-api"), any())).thenAnswer(invocation -> {
+            updateThread.set(Thread.currentThread().getName());
+            return latestApi;
+        });
+        Mockito.when(provider.get())
+                .thenReturn(CompletableFuture.completedFuture(
+                        (Collection<DynamicProperty>) Collections.singletonList(new DynamicProperty("my-key", "my-value"))));
+        dispatcher.register("api:my-api");
+
+        poller.handle(1L);
+
+        Mockito.verify(apiService, Mockito.timeout(5000)).update(eq("my-api"), any());
+        assertTrue(updateThread.get().startsWith("gio-vertx-worker-"));
+    }
+
+    @Test
+    public void shouldNotUpdatePropertiesOnceStopped() {
+        Mockito.when(apiEntity.getId()).thenReturn("my-api");
+        Mockito.when(provider.get())
+                .thenReturn(CompletableFuture.completedFuture(
+                        (Collection<DynamicProperty>) Collections.singletonList(new DynamicProperty("my-key", "my-value"))));
+        dispatcher.register("api:my-api");
+        dispatcher.release("api:my-api");
+
+        poller.handle(1L);
+
+        Mockito.verify(apiService, Mockito.after(500).never()).update(any(), any());
+    }
 }
@@ -25,8 +25,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -39,44 +41,116 @@ public class ApiManager {
     @Autowired
     private EventManager eventManager;
 
-    private final Map<String, ApiEntity> apis = new HashMap<>();
+    private final Map<String, DeployedApi> apis = new ConcurrentHashMap<>();
 
     public void deploy(ApiEntity api) {
+        deploy(api, null);
+    }
+
+    public void deploy(ApiEntity api, Digest digest) {
         logger.info("Deployment of {}", api);
 
-            apis.put(api.getId(), api);
+        apis.put(api.getId(), new DeployedApi(api, digest));
 
-            if (api.getState() == Lifecycle.State.STARTED) {
-                eventManager.publishEvent(ApiEvent.DEPLOY, api);
-            } else {
-                logger.debug("{} is not enabled. Skip deployment.", api);
-            }
+        if (api.getState() == Lifecycle.State.STARTED) {
+            eventManager.publishEvent(ApiEvent.DEPLOY, api);
+        } else {
+            logger.debug("{} is not enabled. Skip deployment.", api);
+        }
     }
 
     public void update(ApiEntity api) {
-        apis.put(api.getId(), api);
-            eventManager.publishEvent(ApiEvent.UPDATE, api);
+        update(api, null);
+    }
+
+    public void update(ApiEntity api, Digest digest) {
+        apis.put(api.getId(), new DeployedApi(api, digest));
+        eventManager.publishEvent(ApiEvent.UPDATE, api);
     }
 
     public void undeploy(String apiId) {
-        ApiEntity currentApi = apis.remove(apiId);
+        DeployedApi currentApi = apis.remove(apiId);
         if (currentApi != null) {
-            logger.info("Undeployment of {}", currentApi);
+            logger.info("Undeployment of {}", currentApi.api);
 
-            eventManager.publishEvent(ApiEvent.UNDEPLOY, currentApi);
+            eventManager.publishEvent(ApiEvent.UNDEPLOY, currentApi.api);
             logger.info("{} has been undeployed", apiId);
         }
     }
 
     public Collection<ApiEntity> apis() {
-        return apis.values();
+        return apis.values().stream().map(deployedApi -> deployedApi.api).collect(Collectors.toList());
     }
 
     public ApiEntity get(String name) {
-        return apis.get(name);
+        DeployedApi deployedApi = apis.get(name);
+        return (deployedApi == null) ? null : deployedApi.api;
+    }
+
+    /**
+     * Get the digest of the payload the deployed API has been built from, or <code>null</code> if the API is not
+     * deployed.
+     */
+    public Digest digest(String apiId) {
+        DeployedApi deployedApi = apis.get(apiId);
+        return (deployedApi == null) ? null : deployedApi.digest;
+    }
+
+    /**
+     * Remember that the given payload has already been handled for a deployed API, without redeploying it.
+     */
+    public void digest(String apiId, Digest digest) {
+        apis.computeIfPresent(apiId, (id, deployedApi) -> new DeployedApi(deployedApi.api, digest));
     }
 
     public void setEventManager(EventManager eventManager) {
         this.eventManager = eventManager;
     }
+
+    private static final class DeployedApi {
+
+        private final ApiEntity api;
+        private final Digest digest;
+
+        private DeployedApi(ApiEntity api, Digest digest) {
+            this.api = api;
+            this.digest = digest;
+        }
+    }
+
+    /**
+     * Lightweight fingerprint of a deployment: the time it has been deployed at and a hash of the API definition it
+     * has been built from. Comparing digests avoids deserializing a payload which has already been handled.
+     */
+    public static final class Digest {
+
+        private final long deployedAt;
+        private final int definitionHash;
+
+        public Digest(long deployedAt, int definitionHash) {
+            this.deployedAt = deployedAt;
+            this.definitionHash = definitionHash;
+        }
+
+        public long getDeployedAt() {
+            return deployedAt;
+        }
+
+        public int getDefinitionHash() {
+            return definitionHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Digest digest = (Digest) o;
+            return deployedAt == digest.deployedAt && definitionHash == digest.definitionHash;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(deployedAt, definitionHash);
+        }
+    }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.services.sync;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.component.Lifecycle;
 import io.gravitee.common.event.EventManager;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -39,16 +40,24 @@ import io.gravitee.repository.management.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -80,6 +89,15 @@ public class SyncManager {
     @Autowired
     private UserService userService;
 
+    @Value("${services.sync.initial.eventsPageSize:500}")
+    private int initialEventsPageSize;
+
+    @Value("${services.sync.initial.eventsMaxPages:20}")
+    private int initialEventsMaxPages;
+
+    @Value("${services.sync.initial.parallelism:4}")
+    private int initialParallelism;
+
     private final AtomicLong counter = new AtomicLong(0);
 
     private long lastRefreshAt = -1;
@@ -90,8 +108,10 @@ public class SyncManager {
 
         long nextLastRefreshAt = System.currentTimeMillis();
 
+        boolean apisSynchronized = false;
         try {
             synchronizeApis(nextLastRefreshAt);
+            apisSynchronized = true;
         } catch (Exception ex) {
             logger.error("An error occurs while synchronizing APIs", ex);
         }
@@ -102,7 +122,10 @@ public class SyncManager {
             logger.error("An error occurs while synchronizing dictionaries", ex);
         }
 
-        lastRefreshAt = nextLastRefreshAt;
+        // The initial synchronization is retried until every API has been read
+        if (apisSynchronized || lastRefreshAt != -1) {
+            lastRefreshAt = nextLastRefreshAt;
+        }
         logger.debug("Synchronization #{} ended at {}", counter.get(), Instant.now().toString());
     }
 
@@ -117,17 +140,16 @@ public class SyncManager {
                             .excludeDefinition()
                             .excludePicture().build());
 
-            // Get last event by API
-            apiEvents = apis
-                    .stream()
-                    .map(api -> getLastApiEvent(api.getId()))
-                    .filter(Objects::nonNull)
-                    .collect(
-                            toMap(
-                                    event -> event.getProperties().get(Event.EventProperties.API_ID.getValue()),
-                                    event -> event
-                            )
-                    );
+            final ExecutorService executor = newInitialExecutor();
+            try {
+                // Get last event by API
+                apiEvents = getLastApiEvents(apis.stream().map(Api::getId).collect(toSet()), executor);
+
+                // Then, deploy APIs concurrently
+                computeApiEventsInParallel(apiEvents, executor);
+            } finally {
+                executor.shutdownNow();
+            }
         } else {
             // Get latest API events
             List<Event> events = getLatestApiEvents(nextLastRefreshAt);
@@ -140,10 +162,10 @@ public class SyncManager {
                                     event -> event.getProperties().get(Event.EventProperties.API_ID.getValue()),
                                     event -> event,
                                     BinaryOperator.maxBy(comparing(Event::getCreatedAt))));
-        }
 
-        // Then, compute events
-        computeApiEvents(apiEvents);
+            // Then, compute events
+            computeApiEvents(apiEvents);
+        }
     }
 
     private void synchronizeDictionaries(long nextLastRefreshAt) throws Exception {
@@ -206,41 +228,166 @@ public class SyncManager {
     }
 
     private void computeApiEvents(Map<String, Event> apiEvents) {
+        final Map<String, UserEntity> primaryOwners = findPrimaryOwners(apiEvents);
         apiEvents.forEach((apiId, apiEvent) -> {
-            switch (apiEvent.getType()) {
-                case UNPUBLISH_API:
-                case STOP_API:
-                    apiManager.undeploy(apiId);
-                    break;
-                case START_API:
-                case PUBLISH_API:
-                    try {
-                        // Read API definition from event
-                        io.gravitee.repository.management.model.Api payloadApi =
-                                objectMapper.readValue(apiEvent.getPayload(), io.gravitee.repository.management.model.Api.class);
-
-                        // API to deploy
-                        ApiEntity apiToDeploy = convert(payloadApi);
-
-                        if (apiToDeploy != null) {
-                            // Get deployed API
-                            ApiEntity deployedApi = apiManager.get(apiToDeploy.getId());
-
-                            // API is not yet deployed, so let's do it !
-                            if (deployedApi == null) {
-                                apiManager.deploy(apiToDeploy);
+            try {
+                computeApiEvent(apiId, apiEvent, primaryOwners);
+            } catch (Exception ex) {
+                logger.error("Error while computing event of API {}", apiId, ex);
+            }
+        });
+    }
+
+    /**
+     * Used by the initial synchronization where every API of the platform has to be deployed: events are computed
+     * by a bounded pool of workers and the synchronization only ends once all of them have been handled.
+     */
+    private void computeApiEventsInParallel(Map<String, Event> apiEvents, ExecutorService executor)
+            throws InterruptedException {
+        if (apiEvents.isEmpty()) {
+            return;
+        }
+
+        final Map<String, UserEntity> primaryOwners = findPrimaryOwners(apiEvents);
+        final List<Future<?>> deployments = new ArrayList<>(apiEvents.size());
+        apiEvents.forEach((apiId, apiEvent) ->
+                deployments.add(executor.submit(() -> computeApiEvent(apiId, apiEvent, primaryOwners))));
+
+        for (Future<?> deployment : deployments) {
+            try {
+                deployment.get();
+            } catch (ExecutionException ee) {
+                logger.error("Error while computing API event during initial synchronization", ee.getCause());
+            }
+        }
+    }
+
+    private ExecutorService newInitialExecutor() {
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, initialParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "gio-sync-initial-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void computeApiEvent(String apiId, Event apiEvent, Map<String, UserEntity> primaryOwners) {
+        switch (apiEvent.getType()) {
+            case UNPUBLISH_API:
+            case STOP_API:
+                apiManager.undeploy(apiId);
+                break;
+            case START_API:
+            case PUBLISH_API:
+                try {
+                    // Same event as the one the deployed API comes from, nothing to read
+                    final ApiManager.Digest digest = digest(apiEvent);
+                    if (digest.equals(apiManager.digest(apiId))) {
+                        break;
+                    }
+
+                    // Read API definition from event
+                    io.gravitee.repository.management.model.Api payloadApi =
+                            objectMapper.readValue(apiEvent.getPayload(), io.gravitee.repository.management.model.Api.class);
+
+                    // API to deploy
+                    ApiEntity apiToDeploy = convert(payloadApi, primaryOwners.get(payloadApi.getId()));
+
+                    if (apiToDeploy != null) {
+                        // Get deployed API
+                        ApiEntity deployedApi = apiManager.get(apiToDeploy.getId());
+
+                        // API is not yet deployed, so let's do it !
+                        if (deployedApi == null) {
+                            apiManager.deploy(apiToDeploy, digest);
+                        } else {
+                            if (deployedApi.getDeployedAt().before(apiToDeploy.getDeployedAt())) {
+                                apiManager.update(apiToDeploy, digest);
                             } else {
-                                if (deployedApi.getDeployedAt().before(apiToDeploy.getDeployedAt())) {
-                                    apiManager.update(apiToDeploy);
-                                }
+                                apiManager.digest(apiToDeploy.getId(), digest);
                             }
                         }
-                    } catch (Exception e) {
-                        logger.error("Error while determining deployed APIs store into events payload", e);
                     }
-                    break;
+                } catch (Exception e) {
+                    logger.error("Error while determining deployed APIs store into events payload", e);
+                }
+                break;
+        }
+    }
+
+    private ApiManager.Digest digest(Event apiEvent) {
+        final String payload = apiEvent.getPayload();
+        return new ApiManager.Digest(
+                (apiEvent.getCreatedAt() == null) ? 0 : apiEvent.getCreatedAt().getTime(),
+                (payload == null) ? 0 : payload.hashCode());
+    }
+
+    /**
+     * Resolve the primary owner of every API to deploy with one membership query and one user query.
+     */
+    private Map<String, UserEntity> findPrimaryOwners(Map<String, Event> apiEvents) {
+        final List<String> apiIds = apiEvents.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().getType() == EventType.START_API
+                        || entry.getValue().getType() == EventType.PUBLISH_API)
+                .filter(entry -> !digest(entry.getValue()).equals(apiManager.digest(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(toList());
+
+        if (apiIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            final Set<Membership> memberships = membershipRepository.findByReferencesAndRole(
+                    MembershipReferenceType.API,
+                    apiIds,
+                    RoleScope.API,
+                    SystemRole.PRIMARY_OWNER.name());
+
+            if (memberships.isEmpty()) {
+                return Collections.emptyMap();
             }
-        });
+
+            final Map<String, UserEntity> users = findUsers(memberships);
+
+            final Map<String, UserEntity> primaryOwners = new HashMap<>(memberships.size());
+            memberships.forEach(membership -> {
+                UserEntity user = users.get(membership.getUserId());
+                if (user != null) {
+                    primaryOwners.putIfAbsent(membership.getReferenceId(), user);
+                }
+            });
+            return primaryOwners;
+        } catch (final TechnicalException e) {
+            logger.error("Error while trying to get primary owners of apis", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Read the users with one query, falling back to one query per user if any of them can not be read, so that an
+     * unknown primary owner only affects its own APIs.
+     */
+    private Map<String, UserEntity> findUsers(Set<Membership> memberships) {
+        final Set<String> userIds = memberships.stream().map(Membership::getUserId).collect(toSet());
+        try {
+            return userService.findByIds(new ArrayList<>(userIds))
+                    .stream()
+                    .collect(toMap(UserEntity::getId, user -> user));
+        } catch (RuntimeException re) {
+            logger.warn("Unable to read primary owners at once, reading them one by one", re);
+        }
+
+        final Map<String, UserEntity> users = new HashMap<>(userIds.size());
+        for (String userId : userIds) {
+            try {
+                users.put(userId, userService.findById(userId));
+            } catch (RuntimeException re) {
+                logger.error("Unable to read primary owner {}", userId, re);
+            }
+        }
+        return users;
     }
 
     private Event getLastDictionaryEvent(final String dictionary) {
@@ -273,6 +420,59 @@ public class SyncManager {
         return eventRepository.search(builder.build());
     }
 
+    /**
+     * Read the API events page by page, newest first, and keep the first one found for each API, until every API is
+     * resolved or <code>services.sync.initial.eventsMaxPages</code> pages have been read. The APIs without any event
+     * in these pages are then resolved one by one on the pool, so that the scan is bounded whatever the size of the
+     * events history.
+     */
+    private Map<String, Event> getLastApiEvents(final Set<String> apiIds, ExecutorService executor)
+            throws InterruptedException, ExecutionException {
+        final Map<String, Event> lastEvents = new HashMap<>(apiIds.size());
+        if (apiIds.isEmpty()) {
+            return lastEvents;
+        }
+
+        final EventCriteria criteria = new EventCriteria.Builder()
+                .types(EventType.PUBLISH_API, EventType.UNPUBLISH_API, EventType.START_API, EventType.STOP_API)
+                .build();
+        final int pageSize = Math.max(1, initialEventsPageSize);
+
+        for (int pageNumber = 0; pageNumber < initialEventsMaxPages && lastEvents.size() < apiIds.size(); pageNumber++) {
+            Page<Event> page = eventRepository.search(criteria,
+                    new PageableBuilder().pageNumber(pageNumber).pageSize(pageSize).build());
+            if (page == null || page.getContent() == null) {
+                break;
+            }
+            for (Event event : page.getContent()) {
+                String apiId = (event.getProperties() == null) ? null :
+                        event.getProperties().get(Event.EventProperties.API_ID.getValue());
+                if (apiId != null && apiIds.contains(apiId)) {
+                    lastEvents.putIfAbsent(apiId, event);
+                }
+            }
+            if (page.getContent().size() < pageSize) {
+                // Last page of the history, the remaining APIs have no event
+                return lastEvents;
+            }
+        }
+
+        final Map<String, Future<Event>> missingEvents = new HashMap<>();
+        apiIds.stream()
+                .filter(apiId -> !lastEvents.containsKey(apiId))
+                .forEach(apiId -> missingEvents.put(apiId, executor.submit(() -> getLastApiEvent(apiId))));
+
+        // A failure fails the initial synchronization, which is then retried
+        for (Map.Entry<String, Future<Event>> missingEvent : missingEvents.entrySet()) {
+            Event event = missingEvent.getValue().get();
+            if (event != null) {
+                lastEvents.put(missingEvent.getKey(), event);
+            }
+        }
+
+        return lastEvents;
+    }
+
     private Event getLastApiEvent(final String api) {
         final EventCriteria.Builder eventCriteriaBuilder =
                 new EventCriteria.Builder()
@@ -285,7 +485,7 @@ public class SyncManager {
         return (!events.isEmpty()) ? events.get(0) : null;
     }
 
-    private ApiEntity convert(Api api) {
+    private ApiEntity convert(Api api, UserEntity primaryOwner) {
         ApiEntity apiEntity = new ApiEntity();
 
         apiEntity.setId(api.getId());
@@ -329,20 +529,8 @@ public class SyncManager {
             apiEntity.setVisibility(io.gravitee.rest.api.model.Visibility.valueOf(api.getVisibility().toString()));
         }
 
-        try {
-            final Optional<Membership> primaryOwnerMembership = membershipRepository.findByReferenceAndRole(
-                    MembershipReferenceType.API,
-                    api.getId(),
-                    RoleScope.API,
-                    SystemRole.PRIMARY_OWNER.name())
-                    .stream()
-                    .findFirst();
-            if (primaryOwnerMembership.isPresent()) {
-                final UserEntity user = userService.findById(primaryOwnerMembership.get().getUserId());
-                apiEntity.setPrimaryOwner(new PrimaryOwnerEntity(user));
-            }
-        } catch (final TechnicalException e) {
-            logger.error("Error while trying to get primary owner of api " + api.getId(), e);
+        if (primaryOwner != null) {
+            apiEntity.setPrimaryOwner(new PrimaryOwnerEntity(primaryOwner));
         }
         return apiEntity;
     }